@@ -0,0 +1,88 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveMessage;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveRowedMessage;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembling of action rows when sending {@link InteractiveMessage} and {@link InteractiveRowedMessage}. The messages are sent to stubbed
+ * channel and unregistered right after, so the registry does not grow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComponentAssemblyBenchmark {
+
+    private MessageChannelUnion messageChannel;
+    private InteractiveMessage buttonMessage;
+    private InteractiveMessage selectMenuMessage;
+    private InteractiveRowedMessage rowedMessage;
+
+    @Setup
+    public void setup() {
+        messageChannel = JdaStubs.messageChannel();
+
+        buttonMessage = InteractiveMessage.create(new MessageEditBuilder().setContent("Buttons"));
+
+        for (int i = 0; i < 25; i++) {
+            buttonMessage.addInteractionEmpty(Interaction.asButton(ButtonStyle.PRIMARY, "Button " + i));
+        }
+
+        selectMenuMessage = InteractiveMessage.createStringSelectMenu(new MessageEditBuilder().setContent("Select menu"), "Placeholder");
+
+        for (int i = 0; i < 25; i++) {
+            selectMenuMessage.addInteractionEmpty(Interaction.asSelectOption("Option " + i));
+        }
+
+        InteractiveRowedMessage.Builder rowedMessageBuilder = InteractiveRowedMessage.builder(new MessageEditBuilder().setContent("Rows"));
+
+        for (int row = 0; row < 4; row++) {
+            for (int i = 0; i < 5; i++) {
+                rowedMessageBuilder.onInteraction(row, Interaction.asButton(ButtonStyle.SECONDARY, "Button " + row + "-" + i), ignored -> {
+                });
+            }
+        }
+
+        // Select menu cannot be built without options
+        rowedMessageBuilder.addStringSelectMenu(4, "Placeholder", selectMenuBuilder -> selectMenuBuilder.addOption("Option", "option"));
+
+        for (int i = 0; i < 24; i++) {
+            rowedMessageBuilder.onInteraction(4, Interaction.asSelectOption("Option " + i), ignored -> {
+            });
+        }
+
+        rowedMessage = rowedMessageBuilder.build();
+    }
+
+    @Benchmark
+    public RestAction<Message> sendButtonMessage() {
+        RestAction<Message> restAction = buttonMessage.sendMessage(messageChannel);
+        buttonMessage.getRegistry().remove(buttonMessage);
+        return restAction;
+    }
+
+    @Benchmark
+    public RestAction<Message> sendSelectMenuMessage() {
+        RestAction<Message> restAction = selectMenuMessage.sendMessage(messageChannel);
+        selectMenuMessage.getRegistry().remove(selectMenuMessage);
+        return restAction;
+    }
+
+    @Benchmark
+    public RestAction<Message> sendRowedMessage() {
+        RestAction<Message> restAction = rowedMessage.sendMessage(messageChannel);
+        rowedMessage.getRegistry().remove(rowedMessage);
+        return restAction;
+    }
+}
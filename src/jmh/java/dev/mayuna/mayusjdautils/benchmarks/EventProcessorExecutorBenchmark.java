@@ -0,0 +1,139 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveMessage;
+import dev.mayuna.mayusjdautils.metrics.InMemoryInteractiveMetrics;
+import dev.mayuna.mayusjdautils.metrics.LatencyHistogram;
+import dev.mayuna.mayusjdautils.util.VirtualThreadUtils;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares executors usable by {@link InteractiveListener} with handlers which block, as if they called {@code RestAction#complete()}. Every
+ * operation dispatches burst of button clicks through the listener and waits until all handlers finish.<br>
+ * Handler latencies are measured by {@link InMemoryInteractiveMetrics} of the listener's registry, from receiving the event to start and end
+ * of its handler, and reported as secondary results in microseconds together with peak number of live threads. Every iteration uses new
+ * listener and executor, so neither latencies nor threads of previous iterations are counted. Run with {@code -prof gc} to compare memory. The
+ * virtual thread executor falls back to cached thread pool when the runtime does not support virtual threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventProcessorExecutorBenchmark {
+
+    @Param({"cached", "virtual"})
+    private String executorType;
+
+    @Param({"1000"})
+    private int burstSize;
+
+    @Param({"5"})
+    private int blockingMillis;
+
+    private ExecutorService executorService;
+    private InteractiveListener interactiveListener;
+    private InMemoryInteractiveMetrics metrics;
+    private ButtonInteractionEvent buttonEvent;
+    private volatile CountDownLatch countDownLatch;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        executorService = "virtual".equals(executorType)
+                ? VirtualThreadUtils.newVirtualThreadPerTaskExecutorOrCachedPool("Benchmark-")
+                : Executors.newCachedThreadPool();
+
+        metrics = new InMemoryInteractiveMetrics();
+        InteractableRegistry registry = new InteractableRegistry();
+        registry.setMetrics(metrics);
+
+        interactiveListener = new InteractiveListener(registry);
+        interactiveListener.setEventProcessorExecutor(executorService);
+
+        Interaction interaction = Interaction.asButton(ButtonStyle.PRIMARY, "Block");
+        InteractiveMessage interactiveMessage = InteractiveMessage.create(new MessageEditBuilder().setContent("Blocking handler"));
+        interactiveMessage.addInteraction(interaction, event -> {
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            } finally {
+                countDownLatch.countDown();
+            }
+        });
+        interactiveMessage.bindTo(interactiveListener).sendMessage(JdaStubs.messageChannel());
+
+        buttonEvent = JdaStubs.buttonEvent(interaction.getButton());
+        threadMXBean.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        executorService.shutdownNow();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        interactiveListener.getRegistry().shutdown();
+    }
+
+    @Benchmark
+    public void processBurst(LatencyCounters latencyCounters) throws InterruptedException {
+        countDownLatch = new CountDownLatch(burstSize);
+
+        for (int i = 0; i < burstSize; i++) {
+            interactiveListener.onButtonInteraction(buttonEvent);
+        }
+
+        countDownLatch.await();
+        latencyCounters.update(metrics, threadMXBean.getPeakThreadCount());
+    }
+
+    /**
+     * Percentiles of handler latencies of the current iteration, in microseconds
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LatencyCounters {
+
+        public long startP50Micros;
+        public long startP99Micros;
+        public long endP50Micros;
+        public long endP99Micros;
+        public long endMaxMicros;
+        public int peakThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            startP50Micros = 0;
+            startP99Micros = 0;
+            endP50Micros = 0;
+            endP99Micros = 0;
+            endMaxMicros = 0;
+            peakThreads = 0;
+        }
+
+        private void update(InMemoryInteractiveMetrics metrics, int peakThreadCount) {
+            LatencyHistogram startLatencies = metrics.getHandlerStartLatencies();
+            LatencyHistogram endLatencies = metrics.getHandlerEndLatencies();
+
+            startP50Micros = TimeUnit.NANOSECONDS.toMicros(startLatencies.getValueAtPercentile(50));
+            startP99Micros = TimeUnit.NANOSECONDS.toMicros(startLatencies.getValueAtPercentile(99));
+            endP50Micros = TimeUnit.NANOSECONDS.toMicros(endLatencies.getValueAtPercentile(50));
+            endP99Micros = TimeUnit.NANOSECONDS.toMicros(endLatencies.getValueAtPercentile(99));
+            endMaxMicros = TimeUnit.NANOSECONDS.toMicros(endLatencies.getMax());
+            peakThreads = Math.max(peakThreads, peakThreadCount);
+        }
+    }
+}
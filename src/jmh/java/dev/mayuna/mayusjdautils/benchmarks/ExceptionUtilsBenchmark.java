@@ -0,0 +1,41 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.util.ExceptionUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of stack traces with {@link ExceptionUtils}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionUtilsBenchmark {
+
+    @Param({"10", "100"})
+    private int stackDepth;
+
+    private Throwable throwable;
+
+    @Setup
+    public void setup() {
+        throwable = new IllegalStateException("Benchmark", createThrowable(stackDepth));
+    }
+
+    @Benchmark
+    public String formatExceptionStackTrace() {
+        return ExceptionUtils.formatExceptionStackTrace(throwable);
+    }
+
+    private static Throwable createThrowable(int depth) {
+        if (depth <= 0) {
+            return new RuntimeException("Cause");
+        }
+
+        return createThrowable(depth - 1);
+    }
+}
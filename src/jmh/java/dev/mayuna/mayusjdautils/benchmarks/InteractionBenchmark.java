@@ -0,0 +1,64 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveMessage;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating {@link Interaction}s and matching selected options to {@link Interaction}s of {@link InteractiveMessage}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InteractionBenchmark {
+
+    private InteractiveMessage selectMenuMessage;
+    private GroupedInteractionEvent singleOptionEvent;
+    private GroupedInteractionEvent allOptionsEvent;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        selectMenuMessage = InteractiveMessage.createStringSelectMenu(new MessageEditBuilder(), "Placeholder");
+        List<SelectOption> selectOptions = new ArrayList<>();
+
+        for (int i = 0; i < 25; i++) {
+            Interaction interaction = Interaction.asSelectOption("Option " + i);
+            selectMenuMessage.addInteraction(interaction, blackhole::consume);
+            selectOptions.add(interaction.getSelectOption());
+        }
+
+        // First component ID of message with select menu is the select menu ID
+        String selectMenuId = selectMenuMessage.getComponentIds().iterator().next();
+
+        singleOptionEvent = new GroupedInteractionEvent(JdaStubs.stringSelectEvent(selectMenuId, Collections.singletonList(selectOptions.get(24))));
+        allOptionsEvent = new GroupedInteractionEvent(JdaStubs.stringSelectEvent(selectMenuId, selectOptions));
+    }
+
+    @Benchmark
+    public Interaction createButton() {
+        return Interaction.asButton(ButtonStyle.PRIMARY, "Button");
+    }
+
+    @Benchmark
+    public void matchSingleSelectedOption() {
+        selectMenuMessage.process(singleOptionEvent);
+    }
+
+    @Benchmark
+    public void matchAllSelectedOptions() {
+        selectMenuMessage.process(allOptionsEvent);
+    }
+}
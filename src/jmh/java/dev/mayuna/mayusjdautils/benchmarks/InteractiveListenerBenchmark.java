@@ -0,0 +1,78 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveMessage;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routing of button click from {@link InteractiveListener} to its {@link InteractiveMessage} with different number of registered messages.
+ * Events are processed on the calling thread, so only the listener and the message are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InteractiveListenerBenchmark {
+
+    private static final int EVENT_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int registeredInteractables;
+
+    private final List<InteractiveMessage> interactiveMessages = new ArrayList<>();
+    private final ButtonInteractionEvent[] events = new ButtonInteractionEvent[EVENT_COUNT];
+    private InteractiveListener interactiveListener;
+    private int eventIndex;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        interactiveListener = new InteractiveListener(new InteractableRegistry());
+        interactiveListener.setEventProcessorExecutor(Runnable::run);
+
+        MessageChannelUnion messageChannel = JdaStubs.messageChannel();
+        List<Interaction> interactions = new ArrayList<>();
+
+        for (int i = 0; i < registeredInteractables; i++) {
+            InteractiveMessage interactiveMessage = InteractiveMessage.create(new MessageEditBuilder().setContent("Message " + i));
+
+            for (int j = 0; j < 3; j++) {
+                Interaction interaction = Interaction.asButton(ButtonStyle.PRIMARY, "Button " + j);
+                interactiveMessage.addInteraction(interaction, blackhole::consume);
+                interactions.add(interaction);
+            }
+
+            interactiveMessage.bindTo(interactiveListener).sendMessage(messageChannel);
+            interactiveMessages.add(interactiveMessage);
+        }
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Interaction interaction = interactions.get(ThreadLocalRandom.current().nextInt(interactions.size()));
+            events[i] = JdaStubs.buttonEvent(interaction.getButton());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        interactiveListener.getRegistry().shutdown();
+        interactiveMessages.clear();
+    }
+
+    @Benchmark
+    public void dispatchButtonClick() {
+        interactiveListener.onButtonInteraction(events[eventIndex++ & (EVENT_COUNT - 1)]);
+    }
+}
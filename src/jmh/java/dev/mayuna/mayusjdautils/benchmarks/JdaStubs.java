@@ -0,0 +1,121 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectInteraction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import net.dv8tion.jda.api.utils.TimeUtil;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Offline stubs of JDA entities and events. Stubs are dynamic proxies which return configured values by method name, themselves for fluent
+ * methods and default values otherwise.
+ */
+final class JdaStubs {
+
+    static final JDA JDA_STUB = stub(JDA.class, values("getShardInfo", new JDA.ShardInfo(0, 1)));
+    static final Guild GUILD_STUB = stub(Guild.class, values("getIdLong", 1L, "getJDA", JDA_STUB));
+    static final User USER_STUB = stub(User.class, values("getIdLong", 2L, "isBot", false, "getJDA", JDA_STUB));
+
+    private JdaStubs() {
+    }
+
+    static ButtonInteractionEvent buttonEvent(Button button) {
+        ButtonInteraction interaction = stub(ButtonInteraction.class, interactionValues(
+                "getComponentId", button.getId(),
+                "getButton", button,
+                "getComponent", button
+        ));
+
+        return new ButtonInteractionEvent(JDA_STUB, 0, interaction);
+    }
+
+    static StringSelectInteractionEvent stringSelectEvent(String selectMenuId, List<SelectOption> selectedOptions) {
+        StringSelectInteraction interaction = stub(StringSelectInteraction.class, interactionValues(
+                "getComponentId", selectMenuId,
+                "getSelectedOptions", selectedOptions,
+                "getValues", selectedOptions.stream().map(SelectOption::getValue).collect(Collectors.toList())
+        ));
+
+        return new StringSelectInteractionEvent(JDA_STUB, 0, interaction);
+    }
+
+    static MessageChannelUnion messageChannel() {
+        MessageCreateAction messageCreateAction = stub(MessageCreateAction.class, values("getJDA", JDA_STUB));
+
+        return stub(MessageChannelUnion.class, values(
+                "getJDA", JDA_STUB,
+                "getType", ChannelType.TEXT,
+                "getIdLong", 3L,
+                "sendMessage", messageCreateAction
+        ));
+    }
+
+    private static Map<String, Object> interactionValues(Object... keysAndValues) {
+        Map<String, Object> values = values(keysAndValues);
+        values.put("getIdLong", TimeUtil.getDiscordTimestamp(System.currentTimeMillis()));
+        values.put("getJDA", JDA_STUB);
+        values.put("getUser", USER_STUB);
+        values.put("getGuild", GUILD_STUB);
+        values.put("isFromGuild", true);
+        return values;
+    }
+
+    private static Map<String, Object> values(Object... keysAndValues) {
+        Map<String, Object> values = new HashMap<>();
+
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            values.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+
+        return values;
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Object> values) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+
+            if (values.containsKey(name)) {
+                return values.get(name);
+            }
+
+            switch (name) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+            }
+
+            Class<?> returnType = method.getReturnType();
+
+            if (returnType.isInstance(proxy)) {
+                return proxy;
+            }
+
+            if (returnType == boolean.class) {
+                return false;
+            } else if (returnType == long.class) {
+                return 0L;
+            } else if (returnType == int.class) {
+                return 0;
+            }
+
+            return null;
+        }));
+    }
+}
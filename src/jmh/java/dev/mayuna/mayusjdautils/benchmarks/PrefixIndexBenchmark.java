@@ -0,0 +1,46 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.util.PrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completion of prefixes with {@link PrefixIndex}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrefixIndexBenchmark {
+
+    @Param({"100000"})
+    private int keyCount;
+
+    @Param({"", "a", "item-12", "item-99999"})
+    private String prefix;
+
+    private PrefixIndex<String> prefixIndex;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        PrefixIndex.Builder<String> builder = PrefixIndex.builder();
+
+        for (int i = 0; i < keyCount; i++) {
+            String key = "item-" + i;
+            builder.add(key, key, random.nextInt(1000));
+        }
+
+        prefixIndex = builder.build();
+    }
+
+    @Benchmark
+    public List<String> complete() {
+        return prefixIndex.complete(prefix);
+    }
+}
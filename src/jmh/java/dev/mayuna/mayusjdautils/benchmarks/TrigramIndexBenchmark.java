@@ -0,0 +1,60 @@
+package dev.mayuna.mayusjdautils.benchmarks;
+
+import dev.mayuna.mayusjdautils.util.TrigramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Search in {@link TrigramIndex} over generated catalog of names
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrigramIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"ka", "ri", "no", "sel", "tor", "va", "mi", "lun", "dre", "os", "pa", "gen", "ul", "ber", "sta"};
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    @Param({"no", "selmira", "torvalun stage"})
+    private String query;
+
+    private TrigramIndex<String> trigramIndex;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(catalogSize);
+
+        for (int i = 0; i < catalogSize; i++) {
+            names.add(createWord(random) + " " + createWord(random));
+        }
+
+        trigramIndex = new TrigramIndex<>(names, Function.identity());
+    }
+
+    @Benchmark
+    public List<String> search() {
+        return trigramIndex.search(query, 25);
+    }
+
+    private static String createWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+
+        return word.toString();
+    }
+}
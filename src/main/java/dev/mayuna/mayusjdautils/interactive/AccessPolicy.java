@@ -0,0 +1,362 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import dev.mayuna.mayusjdautils.util.LongHashSet;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Determines which users can interact with interactive messages. When the policy has no rules, everyone can interact. Otherwise, user can
+ * interact if any rule allows them:
+ * <ul>
+ *     <li>user's ID is allowed ({@link #allowUsers(long...)})</li>
+ *     <li>member has any of allowed roles ({@link #allowRoles(long...)})</li>
+ *     <li>member has all permissions of any allowed permission set ({@link #allowPermissions(Permission...)})</li>
+ * </ul>
+ * User IDs and role IDs are kept in primitive {@link LongHashSet}s, so checking them does not box or allocate. Role and permission rules are
+ * evaluated from JDA's cached {@link Member} of the interaction and their result is cached per user for {@link #getMemberCacheMillis()}, in
+ * direct-mapped array indexed by user ID, so cached checks do not box or allocate either.<br>
+ * One policy can be shared by any number of messages. Checks are lock-free - changes copy the rules. User IDs are changed in place under the
+ * policy's lock and copied by the first check after the change, so users added one by one between two checks are copied only once.
+ */
+public final class AccessPolicy {
+
+    private static final int MEMBER_CACHE_BITS = 10; // 1024 cached members
+
+    private volatile Rules rules = new Rules(new LongHashSet(), new LongHashSet(), new long[0]);
+    private final LongHashSet users = new LongHashSet(); // Guarded by this, published into rules by publishUsers()
+    private volatile boolean usersChanged;
+    private volatile CachedDecision[] memberDecisions; // Created by first member check, colliding users replace each other
+
+    // Settings
+    private @Getter @Setter long memberCacheMillis = 10_000;
+
+    /**
+     * Allows users with specified IDs
+     *
+     * @param userIds User IDs
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy allowUsers(long... userIds) {
+        synchronized (this) {
+            for (long userId : userIds) {
+                if (users.add(userId)) {
+                    usersChanged = true;
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Allows specified users
+     *
+     * @param users Non-null {@link Collection} of {@link User}s
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy allowUsers(@NonNull Collection<? extends User> users) {
+        return allowUsers(toIds(users));
+    }
+
+    /**
+     * Disallows specified users, which were allowed before
+     *
+     * @param users Non-null {@link Collection} of {@link User}s
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy disallowUsers(@NonNull Collection<? extends User> users) {
+        return disallowUsers(toIds(users));
+    }
+
+    /**
+     * Disallows users with specified IDs, which were allowed by {@link #allowUsers(long...)}
+     *
+     * @param userIds User IDs
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy disallowUsers(long... userIds) {
+        synchronized (this) {
+            for (long userId : userIds) {
+                if (users.remove(userId)) {
+                    usersChanged = true;
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Allows members with any of roles with specified IDs
+     *
+     * @param roleIds Role IDs
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy allowRoles(long... roleIds) {
+        synchronized (this) {
+            Rules rules = this.rules;
+            LongHashSet roles = new LongHashSet(rules.roles);
+
+            for (long roleId : roleIds) {
+                roles.add(roleId);
+            }
+
+            this.rules = new Rules(rules.users, roles, rules.permissions);
+        }
+
+        memberDecisions = null; // Decisions of previous rules are not valid anymore
+        return this;
+    }
+
+    /**
+     * Disallows roles with specified IDs, which were allowed by {@link #allowRoles(long...)}
+     *
+     * @param roleIds Role IDs
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy disallowRoles(long... roleIds) {
+        synchronized (this) {
+            Rules rules = this.rules;
+            LongHashSet roles = new LongHashSet(rules.roles);
+
+            for (long roleId : roleIds) {
+                roles.remove(roleId);
+            }
+
+            this.rules = new Rules(rules.users, roles, rules.permissions);
+        }
+
+        memberDecisions = null; // Decisions of previous rules are not valid anymore
+        return this;
+    }
+
+    /**
+     * Allows members which have all specified permissions in the guild. Can be called multiple times, member needs to satisfy any of the
+     * permission sets.
+     *
+     * @param permissions Non-null permissions
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy allowPermissions(@NonNull Permission... permissions) {
+        if (permissions.length == 0) {
+            throw new IllegalArgumentException("Permissions must not be empty!");
+        }
+
+        synchronized (this) {
+            Rules rules = this.rules;
+            long[] permissionSets = Arrays.copyOf(rules.permissions, rules.permissions.length + 1);
+            permissionSets[permissionSets.length - 1] = Permission.getRaw(permissions);
+
+            this.rules = new Rules(rules.users, rules.roles, permissionSets);
+        }
+
+        memberDecisions = null; // Decisions of previous rules are not valid anymore
+        return this;
+    }
+
+    /**
+     * Removes all rules, so everyone can interact
+     *
+     * @return {@link AccessPolicy}
+     */
+    public AccessPolicy clear() {
+        synchronized (this) {
+            users.clear();
+            usersChanged = false;
+            rules = new Rules(new LongHashSet(), new LongHashSet(), new long[0]);
+        }
+
+        memberDecisions = null; // Decisions of previous rules are not valid anymore
+        return this;
+    }
+
+    /**
+     * Determines if the policy has any rules
+     *
+     * @return True if not everyone can interact
+     */
+    public boolean isRestricted() {
+        return !getRules().isEmpty();
+    }
+
+    /**
+     * Determines if specified user is allowed by ID
+     *
+     * @param userId User ID
+     *
+     * @return True if the user's ID is allowed
+     */
+    public boolean isUserAllowed(long userId) {
+        return getRules().users.contains(userId);
+    }
+
+    /**
+     * Determines if specified user can interact. Role and permission rules cannot be evaluated without {@link Member}, see
+     * {@link #canInteract(User, Member)}.
+     *
+     * @param user Non-null {@link User}
+     *
+     * @return True if the user can interact
+     */
+    public boolean canInteract(@NonNull User user) {
+        return canInteract(user, null);
+    }
+
+    /**
+     * Determines if specified user can interact
+     *
+     * @param user   Non-null {@link User}
+     * @param member Nullable {@link Member} of the user, used by role and permission rules
+     *
+     * @return True if the user can interact
+     */
+    public boolean canInteract(@NonNull User user, Member member) {
+        Rules rules = getRules();
+
+        if (rules.isEmpty() || rules.users.contains(user.getIdLong())) {
+            return true;
+        }
+
+        if (member == null || !rules.hasMemberRules()) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        long userId = user.getIdLong();
+        long guildId = member.getGuild().getIdLong();
+        CachedDecision[] memberDecisions = this.memberDecisions;
+
+        if (memberDecisions == null) {
+            memberDecisions = new CachedDecision[1 << MEMBER_CACHE_BITS];
+            this.memberDecisions = memberDecisions;
+        }
+
+        int slot = getSlot(userId);
+        CachedDecision cachedDecision = memberDecisions[slot];
+
+        if (cachedDecision != null && cachedDecision.userId == userId && cachedDecision.rules == rules && cachedDecision.guildId == guildId
+                && cachedDecision.expirationTime > now) {
+            return cachedDecision.allowed;
+        }
+
+        boolean allowed = evaluateMember(rules, member);
+        memberDecisions[slot] = new CachedDecision(userId, rules, guildId, allowed, now + memberCacheMillis);
+        return allowed;
+    }
+
+    private Rules getRules() {
+        if (usersChanged) {
+            publishUsers();
+        }
+
+        return rules;
+    }
+
+    private synchronized void publishUsers() {
+        if (usersChanged) {
+            Rules rules = this.rules;
+            this.rules = new Rules(new LongHashSet(users), rules.roles, rules.permissions);
+            usersChanged = false;
+        }
+    }
+
+    private static int getSlot(long userId) {
+        int hash = (int) (userId ^ (userId >>> 32)) * 0x9E3779B9;
+        return hash >>> (Integer.SIZE - MEMBER_CACHE_BITS);
+    }
+
+    private static long[] toIds(Collection<? extends User> users) {
+        long[] ids = new long[users.size()];
+        int index = 0;
+
+        for (User user : users) {
+            ids[index++] = user.getIdLong();
+        }
+
+        return ids;
+    }
+
+    private static boolean evaluateMember(Rules rules, Member member) {
+        if (!rules.roles.isEmpty()) {
+            List<Role> memberRoles = member.getRoles();
+
+            for (int index = 0; index < memberRoles.size(); index++) {
+                if (rules.roles.contains(memberRoles.get(index).getIdLong())) {
+                    return true;
+                }
+            }
+        }
+
+        if (rules.permissions.length != 0) {
+            long memberPermissions = Permission.getRaw(member.getPermissions());
+
+            for (long permissionSet : rules.permissions) {
+                if ((memberPermissions & permissionSet) == permissionSet) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Immutable snapshot of rules, replaced on every change
+     */
+    private static final class Rules {
+
+        private final LongHashSet users;
+        private final LongHashSet roles;
+        private final long[] permissions;
+
+        private Rules(LongHashSet users, LongHashSet roles, long[] permissions) {
+            this.users = users;
+            this.roles = roles;
+            this.permissions = permissions;
+        }
+
+        private boolean isEmpty() {
+            return users.isEmpty() && !hasMemberRules();
+        }
+
+        private boolean hasMemberRules() {
+            return !roles.isEmpty() || permissions.length != 0;
+        }
+    }
+
+    /**
+     * Immutable, so it can be read from the array without synchronization
+     */
+    private static final class CachedDecision {
+
+        private final long userId;
+        private final Rules rules;
+        private final long guildId;
+        private final boolean allowed;
+        private final long expirationTime;
+
+        private CachedDecision(long userId, Rules rules, long guildId, boolean allowed, long expirationTime) {
+            this.userId = userId;
+            this.rules = rules;
+            this.guildId = guildId;
+            this.allowed = allowed;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
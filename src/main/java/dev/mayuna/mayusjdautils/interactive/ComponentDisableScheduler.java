@@ -0,0 +1,351 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Disables components of messages in background, for example when their interactive message expires. When thousands of messages expire at
+ * once, sending all edits immediately would exhaust Discord's rate limits and delay edits made in response to users for minutes.<br>
+ * Edits are therefore queued per channel - each channel has at most one edit in flight and waits {@link #getChannelIntervalMillis()}
+ * between edits, which keeps part of the channel's rate limit free for user-facing edits. All channels together send at most
+ * {@link #getMaxEditsPerSecond()} edits per second - channels which are ready to send wait in one queue and take turns, so the global limit
+ * is spread over them. Edits of messages which were deleted in the meantime are skipped, see {@link #cancel(long)}.
+ */
+public final class ComponentDisableScheduler {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Component-Disable-Scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Long, PendingEdit> pendingEdits = new ConcurrentHashMap<>();
+    private final Map<Long, ChannelQueue> channelQueues = new HashMap<>(); // Only accessed by scheduler thread
+    private final Deque<ChannelQueue> readyChannels = new ArrayDeque<>(); // Only accessed by scheduler thread
+    private long nextEditTime; // Only accessed by scheduler thread
+    private boolean sendScheduled; // Only accessed by scheduler thread
+
+    private final AtomicLong completedEdits = new AtomicLong();
+    private final AtomicLong skippedEdits = new AtomicLong();
+    private final AtomicLong failedEdits = new AtomicLong();
+
+    // Settings
+    private @Getter @Setter long channelIntervalMillis = 1250;
+    private @Getter @Setter int maxEditsPerSecond = 10;
+    private @Getter @Setter Consumer<Throwable> errorHandler; // Nullable, called with failures counted by getFailedEdits()
+
+    /**
+     * Schedules disabling all components of specified message. Messages without components are skipped.
+     *
+     * @param message         Non-null {@link Message}
+     * @param interactionHook Nullable {@link InteractionHook} through which the message was sent, required for ephemeral messages
+     */
+    public void schedule(@NonNull Message message, InteractionHook interactionHook) {
+        if (message.getActionRows().isEmpty()) {
+            return;
+        }
+
+        schedule(new PendingEdit(message.getChannelIdLong(), message.getIdLong(), message, interactionHook, null, null));
+    }
+
+    /**
+     * Schedules replacing components of message with specified ID by specified disabled action rows. Used for messages of which only IDs are
+     * kept, so the {@link Message} does not have to be held until it expires.
+     *
+     * @param messageChannel     Non-null {@link MessageChannel} of the message
+     * @param messageId          Message ID
+     * @param disabledActionRows Non-null {@link List} of disabled {@link ActionRow}s, the message is skipped if it is empty
+     */
+    public void schedule(@NonNull MessageChannel messageChannel, long messageId, @NonNull List<ActionRow> disabledActionRows) {
+        if (disabledActionRows.isEmpty()) {
+            return;
+        }
+
+        schedule(new PendingEdit(messageChannel.getIdLong(), messageId, null, null, messageChannel, disabledActionRows));
+    }
+
+    /**
+     * Cancels scheduled edit of specified message, for example since it was deleted
+     *
+     * @param messageId Message ID
+     */
+    public void cancel(long messageId) {
+        if (pendingEdits.remove(messageId) != null) {
+            skippedEdits.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns number of edits waiting to be sent
+     *
+     * @return Number of pending edits
+     */
+    public int getPendingEdits() {
+        return pendingEdits.size();
+    }
+
+    /**
+     * Returns number of sent edits
+     *
+     * @return Number of completed edits
+     */
+    public long getCompletedEdits() {
+        return completedEdits.get();
+    }
+
+    /**
+     * Returns number of edits which were skipped, since their message was deleted or could not be edited anymore
+     *
+     * @return Number of skipped edits
+     */
+    public long getSkippedEdits() {
+        return skippedEdits.get();
+    }
+
+    /**
+     * Returns number of edits which failed for other reasons
+     *
+     * @return Number of failed edits
+     */
+    public long getFailedEdits() {
+        return failedEdits.get();
+    }
+
+    /**
+     * Stops the scheduler thread. Pending edits are not sent.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(PendingEdit pendingEdit) {
+        if (pendingEdits.putIfAbsent(pendingEdit.messageId, pendingEdit) != null) {
+            return; // Already scheduled
+        }
+
+        execute(() -> enqueue(pendingEdit));
+    }
+
+    //////////////////////
+    // Scheduler thread //
+    //////////////////////
+
+    private void enqueue(PendingEdit pendingEdit) {
+        ChannelQueue channelQueue = channelQueues.computeIfAbsent(pendingEdit.channelId, ChannelQueue::new);
+        channelQueue.edits.add(pendingEdit);
+
+        if (channelQueue.idle) {
+            channelQueue.idle = false;
+            markReady(channelQueue);
+        }
+    }
+
+    private void markReady(ChannelQueue channelQueue) {
+        readyChannels.add(channelQueue);
+        scheduleSend(Math.max(0, nextEditTime - System.currentTimeMillis()));
+    }
+
+    private void scheduleSend(long delayMillis) {
+        if (sendScheduled) {
+            return; // Scheduled send is never later than the next free slot of the global rate limit
+        }
+
+        sendScheduled = true;
+        executor.schedule(this::sendNext, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends edit of the first ready channel, once the global rate limit allows it
+     */
+    private void sendNext() {
+        sendScheduled = false;
+        long now = System.currentTimeMillis();
+
+        if (nextEditTime > now) {
+            scheduleSend(nextEditTime - now);
+            return;
+        }
+
+        ChannelQueue channelQueue;
+
+        while ((channelQueue = readyChannels.poll()) != null) {
+            PendingEdit pendingEdit = channelQueue.pollEdit();
+
+            if (pendingEdit == null) {
+                channelQueue.goIdle();
+                continue;
+            }
+
+            RestAction<?> editAction = pendingEdit.createEditAction();
+
+            if (editAction == null) {
+                // Nothing was sent, the channel keeps its turn
+                skippedEdits.incrementAndGet();
+                readyChannels.addFirst(channelQueue);
+                continue;
+            }
+
+            long editInterval = 1000 / Math.max(1, maxEditsPerSecond);
+            nextEditTime = now + editInterval;
+            ChannelQueue sendingChannelQueue = channelQueue;
+
+            editAction.queue(success -> {
+                completedEdits.incrementAndGet();
+                sendingChannelQueue.scheduleNext();
+            }, throwable -> {
+                if (isMessageGone(throwable)) {
+                    skippedEdits.incrementAndGet();
+                } else {
+                    failedEdits.incrementAndGet();
+                    reportFailure(throwable);
+                }
+
+                sendingChannelQueue.scheduleNext();
+            });
+
+            if (!readyChannels.isEmpty()) {
+                scheduleSend(editInterval);
+            }
+
+            return;
+        }
+    }
+
+    private void reportFailure(Throwable throwable) {
+        Consumer<Throwable> errorHandler = this.errorHandler;
+
+        if (errorHandler != null) {
+            errorHandler.accept(throwable);
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ignored) {
+            // Scheduler was stopped
+        }
+    }
+
+    private static boolean isMessageGone(Throwable throwable) {
+        if (!(throwable instanceof ErrorResponseException)) {
+            return false;
+        }
+
+        switch (((ErrorResponseException) throwable).getErrorResponse()) {
+            case UNKNOWN_MESSAGE:
+            case UNKNOWN_CHANNEL:
+            case UNKNOWN_WEBHOOK:
+            case MISSING_ACCESS:
+            case INVALID_WEBHOOK_TOKEN:
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Edits of one channel. The channel is either idle, waiting in ready channels, or waiting for its edit and channel interval.
+     */
+    private final class ChannelQueue {
+
+        private final long channelId;
+        private final Queue<PendingEdit> edits = new ArrayDeque<>();
+        private boolean idle = true;
+
+        private ChannelQueue(long channelId) {
+            this.channelId = channelId;
+        }
+
+        /**
+         * Returns next edit which was not cancelled, or null
+         */
+        private PendingEdit pollEdit() {
+            PendingEdit pendingEdit;
+
+            while ((pendingEdit = edits.poll()) != null) {
+                if (pendingEdits.remove(pendingEdit.messageId, pendingEdit)) {
+                    return pendingEdit;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Called from the edit's callback thread
+         */
+        private void scheduleNext() {
+            try {
+                executor.schedule(() -> {
+                    if (edits.isEmpty()) {
+                        goIdle();
+                    } else {
+                        markReady(this);
+                    }
+                }, channelIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ignored) {
+                // Scheduler was stopped
+            }
+        }
+
+        private void goIdle() {
+            idle = true;
+            channelQueues.remove(channelId, this);
+        }
+    }
+
+    /**
+     * Edit of either held {@link Message}, or of message known only by its channel and ID
+     */
+    private static final class PendingEdit {
+
+        private final long channelId;
+        private final long messageId;
+        private final Message message; // Nullable
+        private final InteractionHook interactionHook; // Nullable
+        private final MessageChannel messageChannel; // Nullable, set when the message is not held
+        private final List<ActionRow> disabledActionRows; // Nullable, set when the message is not held
+
+        private PendingEdit(long channelId, long messageId, Message message, InteractionHook interactionHook, MessageChannel messageChannel, List<ActionRow> disabledActionRows) {
+            this.channelId = channelId;
+            this.messageId = messageId;
+            this.message = message;
+            this.interactionHook = interactionHook;
+            this.messageChannel = messageChannel;
+            this.disabledActionRows = disabledActionRows;
+        }
+
+        private RestAction<?> createEditAction() {
+            if (message == null) {
+                return messageChannel.editMessageComponentsById(messageId, disabledActionRows);
+            }
+
+            List<ActionRow> disabledActionRows = message.getActionRows().stream().map(ActionRow::asDisabled).collect(Collectors.toList());
+
+            if (interactionHook != null && !interactionHook.isExpired()) {
+                return interactionHook.editMessageComponentsById(message.getIdLong(), disabledActionRows);
+            }
+
+            if (message.isEphemeral()) {
+                // Ephemeral messages can be edited only through the interaction hook
+                return null;
+            }
+
+            return message.editMessageComponents(disabledActionRows);
+        }
+    }
+}
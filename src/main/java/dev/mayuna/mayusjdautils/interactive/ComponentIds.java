@@ -0,0 +1,40 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import lombok.NonNull;
+
+import java.util.UUID;
+
+/**
+ * Generates IDs of components (buttons, select menus, select options and modals) created by this library. Generated IDs start with
+ * {@link #PREFIX}, so {@link InteractiveListener} can ignore interactions of components created elsewhere without looking them up.
+ */
+public final class ComponentIds {
+
+    /**
+     * Prefix of generated component IDs
+     */
+    public static final String PREFIX = "mju:";
+
+    private ComponentIds() {
+    }
+
+    /**
+     * Generates random component ID
+     *
+     * @return Non-null component ID
+     */
+    public static String generate() {
+        return PREFIX + UUID.randomUUID();
+    }
+
+    /**
+     * Determines if specified component ID was generated by {@link #generate()}
+     *
+     * @param componentId Non-null component ID
+     *
+     * @return True if generated
+     */
+    public static boolean isGenerated(@NonNull String componentId) {
+        return componentId.startsWith(PREFIX);
+    }
+}
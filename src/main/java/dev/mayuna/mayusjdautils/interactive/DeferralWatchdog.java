@@ -0,0 +1,158 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import dev.mayuna.mayusjdautils.util.TimingWheel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Defers interactions which were not acknowledged by their handlers in time. Discord allows acknowledging an interaction only within 3 seconds
+ * of its creation, otherwise the user sees "This interaction failed" - slow handlers, for example under load, are saved by deferring the
+ * interaction just before the deadline.<br>
+ * After the interaction is deferred, {@link GroupedInteractionEvent#isAcknowledged()} and
+ * {@link GroupedInteractionEvent#isDeferredAutomatically()} return true and handlers must respond through
+ * {@link GroupedInteractionEvent#getInteractionHook()}.<br>
+ * The time is measured from the interaction's creation time (see {@link GroupedInteractionEvent#getCreationTime()}), so the system clock
+ * must be synchronized.
+ */
+public final class DeferralWatchdog {
+
+    private final TimingWheel<GroupedInteractionEvent> timingWheel = new TimingWheel<>("Interaction-Deferral-Watchdog", 50, TimeUnit.MILLISECONDS, this::onTimeout);
+
+    private final AtomicLong watchedEvents = new AtomicLong();
+    private final AtomicLong deferredEvents = new AtomicLong();
+    private final AtomicLong failedDeferrals = new AtomicLong();
+
+    // Settings
+    private @Getter @Setter long deferAfterMillis = 2500;
+    private @Getter @Setter @NonNull DeferType deferType = DeferType.EDIT;
+
+    /**
+     * Starts watching the interaction event. Does nothing if it is already too late to defer it.
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     */
+    public void watch(@NonNull GroupedInteractionEvent interactionEvent) {
+        long creationTime = interactionEvent.getCreationTime();
+
+        if (creationTime == 0) {
+            return;
+        }
+
+        long deadline = creationTime + deferAfterMillis;
+
+        if (deadline <= System.currentTimeMillis() || interactionEvent.isAcknowledged()) {
+            return;
+        }
+
+        watchedEvents.incrementAndGet();
+        timingWheel.schedule(interactionEvent, deadline);
+    }
+
+    /**
+     * Stops the watchdog thread. Interactions which are being watched will not be deferred.
+     */
+    public void stop() {
+        timingWheel.stop();
+    }
+
+    /**
+     * Returns number of watched interaction events
+     *
+     * @return Number of watched events
+     */
+    public long getWatchedEvents() {
+        return watchedEvents.get();
+    }
+
+    /**
+     * Returns number of interaction events which had to be deferred by the watchdog
+     *
+     * @return Number of deferred events
+     */
+    public long getDeferredEvents() {
+        return deferredEvents.get();
+    }
+
+    /**
+     * Returns number of deferrals which failed, for example since the handler acknowledged the interaction at the same moment
+     *
+     * @return Number of failed deferrals
+     */
+    public long getFailedDeferrals() {
+        return failedDeferrals.get();
+    }
+
+    private void onTimeout(TimingWheel.Timeout<GroupedInteractionEvent> timeout) {
+        GroupedInteractionEvent interactionEvent = timeout.getValue();
+
+        if (interactionEvent.isAcknowledged()) {
+            return;
+        }
+
+        RestAction<InteractionHook> deferAction = createDeferAction(interactionEvent);
+
+        if (deferAction == null) {
+            return;
+        }
+
+        interactionEvent.markDeferredAutomatically();
+        deferredEvents.incrementAndGet();
+
+        try {
+            deferAction.queue(null, ignored -> failedDeferrals.incrementAndGet());
+        } catch (IllegalStateException ignored) {
+            // Acknowledged by the handler in the meantime
+            failedDeferrals.incrementAndGet();
+        }
+    }
+
+    private RestAction<InteractionHook> createDeferAction(GroupedInteractionEvent interactionEvent) {
+        switch (deferType) {
+            case EDIT: {
+                // Commands and modals which were not opened from a message cannot be deferred by edit
+                if (interactionEvent.isCommandInteraction()
+                        || interactionEvent.isModalInteraction() && interactionEvent.getModalInteractionEvent().getMessage() == null) {
+                    return interactionEvent.deferReply();
+                }
+
+                return interactionEvent.deferEdit();
+            }
+            case REPLY: {
+                return interactionEvent.deferReply();
+            }
+            case EPHEMERAL_REPLY: {
+                return interactionEvent.deferReply(true);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Determines how {@link DeferralWatchdog} defers interactions
+     */
+    public enum DeferType {
+
+        /**
+         * Defers edit of the interacted message ({@link GroupedInteractionEvent#deferEdit()}), the user does not see anything. Commands and
+         * modals which were not opened from a message are deferred by reply.
+         */
+        EDIT,
+
+        /**
+         * Defers reply ({@link GroupedInteractionEvent#deferReply()}), the user sees "Bot is thinking..."
+         */
+        REPLY,
+
+        /**
+         * Defers ephemeral reply ({@link GroupedInteractionEvent#deferReply(boolean)}), only the user sees "Bot is thinking..."
+         */
+        EPHEMERAL_REPLY
+    }
+}
@@ -0,0 +1,280 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import dev.mayuna.mayusjdautils.util.Mailbox;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of interaction events waiting for processing. When the queue is full, {@link OverloadPolicy} decides which event is thrown
+ * away.<br>
+ * The queue is drained by at most {@link #getParallelism()} tasks running on the executor, so events wait in the queue (and the
+ * {@link OverloadPolicy} applies) when handlers are slower than arriving events, even if the executor itself is unbounded.<br>
+ * Events submitted with {@link Mailbox} are run one at a time in submission order by the queue's tasks. Such event keeps its place in the
+ * queue until it is run, even if it already waits in the mailbox behind other event.<br>
+ * Events older than {@link #getMaxEventAgeMillis()}, measured from the interaction's creation time (see
+ * {@link GroupedInteractionEvent#getCreationTime()}), are skipped, since they cannot be acknowledged anymore. This requires the system clock
+ * to be synchronized.
+ */
+public final class EventDispatchQueue {
+
+    private final BlockingDeque<PendingEvent> pendingEvents = new LinkedBlockingDeque<>();
+    private final Semaphore waitingSlots; // Held by events in the queue and events waiting in a mailbox
+    private final AtomicInteger mailboxEvents = new AtomicInteger();
+    private final @Getter int capacity;
+    private final @Getter OverloadPolicy overloadPolicy;
+    private final @Getter int parallelism;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong rejectedEvents = new AtomicLong();
+    private final AtomicLong staleEvents = new AtomicLong();
+
+    // Settings
+    private @Getter @Setter long maxEventAgeMillis = 3000;
+    private @Getter @Setter @NonNull String busyMessage = "I'm quite busy right now, please try again in a moment.";
+
+    /**
+     * Creates new {@link EventDispatchQueue} which processes as many events at once as there are available processors
+     *
+     * @param capacity       Maximum number of events waiting for processing, must be greater than 0
+     * @param overloadPolicy Non-null {@link OverloadPolicy}
+     *
+     * @throws IllegalArgumentException if capacity is not greater than 0
+     */
+    public EventDispatchQueue(int capacity, @NonNull OverloadPolicy overloadPolicy) {
+        this(capacity, overloadPolicy, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates new {@link EventDispatchQueue}
+     *
+     * @param capacity       Maximum number of events waiting for processing, must be greater than 0
+     * @param overloadPolicy Non-null {@link OverloadPolicy}
+     * @param parallelism    Maximum number of events processed at once, must be greater than 0
+     *
+     * @throws IllegalArgumentException if capacity or parallelism is not greater than 0
+     */
+    public EventDispatchQueue(int capacity, @NonNull OverloadPolicy overloadPolicy, int parallelism) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0!");
+        }
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0!");
+        }
+
+        this.capacity = capacity;
+        this.overloadPolicy = overloadPolicy;
+        this.parallelism = parallelism;
+        this.waitingSlots = new Semaphore(capacity);
+    }
+
+    /**
+     * Submits task processing the interaction event into the queue. If less than {@link #getParallelism()} tasks drain the queue, new one is
+     * started on specified {@link Executor}.
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     * @param task             Non-null task which processes the event
+     * @param executor         Non-null {@link Executor}
+     *
+     * @return True if the event was queued, false if it was rejected or it is too old
+     */
+    public boolean submit(@NonNull GroupedInteractionEvent interactionEvent, @NonNull Runnable task, @NonNull Executor executor) {
+        return submit(interactionEvent, task, null, executor);
+    }
+
+    /**
+     * Submits task processing the interaction event into the queue. If less than {@link #getParallelism()} tasks drain the queue, new one is
+     * started on specified {@link Executor}. Tasks submitted with the same {@link Mailbox} are run one at a time in submission order, on the
+     * queue's tasks.
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     * @param task             Non-null task which processes the event
+     * @param mailbox          Nullable {@link Mailbox} which orders the task, null if the task does not have to be ordered
+     * @param executor         Non-null {@link Executor}
+     *
+     * @return True if the event was queued, false if it was rejected or it is too old
+     */
+    public boolean submit(@NonNull GroupedInteractionEvent interactionEvent, @NonNull Runnable task, Mailbox mailbox, @NonNull Executor executor) {
+        PendingEvent pendingEvent = new PendingEvent(interactionEvent, task, mailbox);
+        long remainingMillis = getRemainingMillis(pendingEvent);
+
+        if (remainingMillis <= 0) {
+            staleEvents.incrementAndGet();
+            return false;
+        }
+
+        switch (overloadPolicy) {
+            case DROP_OLDEST: {
+                while (!waitingSlots.tryAcquire()) {
+                    if (pendingEvents.pollFirst() != null) {
+                        droppedEvents.incrementAndGet();
+                        waitingSlots.release();
+                    } else if (mailboxEvents.get() >= capacity) {
+                        // All waiting events are already in mailboxes, they cannot be dropped anymore
+                        droppedEvents.incrementAndGet();
+                        return false;
+                    }
+                }
+                break;
+            }
+            case REJECT_NEWEST: {
+                if (!waitingSlots.tryAcquire()) {
+                    rejectedEvents.incrementAndGet();
+                    replyBusy(interactionEvent);
+                    return false;
+                }
+                break;
+            }
+            case BLOCK: {
+                try {
+                    if (!waitingSlots.tryAcquire(remainingMillis, TimeUnit.MILLISECONDS)) {
+                        staleEvents.incrementAndGet();
+                        return false;
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    droppedEvents.incrementAndGet();
+                    return false;
+                }
+                break;
+            }
+        }
+
+        pendingEvents.offerLast(pendingEvent);
+        startWorker(executor);
+        return true;
+    }
+
+    /**
+     * Returns number of events waiting for processing, including events waiting in a {@link Mailbox}
+     *
+     * @return Number of waiting events
+     */
+    public int size() {
+        return capacity - waitingSlots.availablePermits();
+    }
+
+    /**
+     * Returns number of events dropped by {@link OverloadPolicy#DROP_OLDEST}
+     *
+     * @return Number of dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Returns number of events rejected by {@link OverloadPolicy#REJECT_NEWEST}
+     *
+     * @return Number of rejected events
+     */
+    public long getRejectedEvents() {
+        return rejectedEvents.get();
+    }
+
+    /**
+     * Returns number of events skipped since they could not be acknowledged anymore
+     *
+     * @return Number of skipped events
+     */
+    public long getStaleEvents() {
+        return staleEvents.get();
+    }
+
+    private void startWorker(Executor executor) {
+        int workers;
+
+        while ((workers = activeWorkers.get()) < parallelism) {
+            if (activeWorkers.compareAndSet(workers, workers + 1)) {
+                try {
+                    executor.execute(() -> drain(executor));
+                } catch (RuntimeException exception) {
+                    activeWorkers.decrementAndGet();
+                    throw exception;
+                }
+
+                return;
+            }
+        }
+    }
+
+    private void drain(Executor executor) {
+        PendingEvent pendingEvent;
+
+        while ((pendingEvent = pendingEvents.pollFirst()) != null) {
+            if (pendingEvent.mailbox == null) {
+                run(pendingEvent);
+                continue;
+            }
+
+            // Mailbox is drained by this task, or by the task currently draining it, so handlers never run outside the queue's tasks
+            PendingEvent orderedEvent = pendingEvent;
+            mailboxEvents.incrementAndGet();
+            pendingEvent.mailbox.execute(() -> {
+                mailboxEvents.decrementAndGet();
+                run(orderedEvent);
+            });
+        }
+
+        activeWorkers.decrementAndGet();
+
+        // Event submitted after the last poll could have seen all workers active
+        if (!pendingEvents.isEmpty()) {
+            startWorker(executor);
+        }
+    }
+
+    private void run(PendingEvent pendingEvent) {
+        waitingSlots.release();
+
+        if (getRemainingMillis(pendingEvent) <= 0) {
+            staleEvents.incrementAndGet();
+            return;
+        }
+
+        try {
+            pendingEvent.task.run();
+        } catch (Throwable throwable) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        }
+    }
+
+    private long getRemainingMillis(PendingEvent pendingEvent) {
+        return pendingEvent.interactionEvent.getCreationTime() + maxEventAgeMillis - System.currentTimeMillis();
+    }
+
+    private void replyBusy(GroupedInteractionEvent interactionEvent) {
+        ReplyCallbackAction replyCallbackAction = interactionEvent.reply(busyMessage);
+
+        if (replyCallbackAction != null) {
+            replyCallbackAction.setEphemeral(true).queue(null, ignored -> {
+                // Ignored
+            });
+        }
+    }
+
+    private static final class PendingEvent {
+
+        private final GroupedInteractionEvent interactionEvent;
+        private final Runnable task;
+        private final Mailbox mailbox;
+
+        private PendingEvent(GroupedInteractionEvent interactionEvent, Runnable task, Mailbox mailbox) {
+            this.interactionEvent = interactionEvent;
+            this.task = task;
+            this.mailbox = mailbox;
+        }
+    }
+}
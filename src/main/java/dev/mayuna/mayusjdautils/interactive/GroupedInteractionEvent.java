@@ -2,20 +2,28 @@ package dev.mayuna.mayusjdautils.interactive;
 
 import lombok.Getter;
 import lombok.NonNull;
+import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.GenericCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IModalCallback;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.ModalCallbackAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.PremiumRequiredCallbackAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import net.dv8tion.jda.api.utils.TimeUtil;
 
 @Getter
 public final class GroupedInteractionEvent {
@@ -24,6 +32,11 @@ public final class GroupedInteractionEvent {
     private StringSelectInteractionEvent stringSelectInteractionEvent = null;
     private EntitySelectInteractionEvent entitySelectInteractionEvent = null;
     private ModalInteractionEvent modalInteractionEvent = null;
+    private SlashCommandInteractionEvent slashCommandInteractionEvent = null;
+    private UserContextInteractionEvent userContextInteractionEvent = null;
+    private MessageContextInteractionEvent messageContextInteractionEvent = null;
+
+    private volatile boolean deferredAutomatically = false;
 
     //////////////////
     // Constructors //
@@ -45,6 +58,18 @@ public final class GroupedInteractionEvent {
         this.entitySelectInteractionEvent = entitySelectInteractionEvent;
     }
 
+    public GroupedInteractionEvent(SlashCommandInteractionEvent slashCommandInteractionEvent) {
+        this.slashCommandInteractionEvent = slashCommandInteractionEvent;
+    }
+
+    public GroupedInteractionEvent(UserContextInteractionEvent userContextInteractionEvent) {
+        this.userContextInteractionEvent = userContextInteractionEvent;
+    }
+
+    public GroupedInteractionEvent(MessageContextInteractionEvent messageContextInteractionEvent) {
+        this.messageContextInteractionEvent = messageContextInteractionEvent;
+    }
+
     /**
      * Defers reply to the interaction event<br>
      * Returns null if the interaction type is {@link InteractionType#UNKNOWN}
@@ -61,6 +86,10 @@ public final class GroupedInteractionEvent {
                 return entitySelectInteractionEvent.deferReply();
             case MODAL_SUBMITTED:
                 return modalInteractionEvent.deferReply();
+            case SLASH_COMMAND:
+            case USER_CONTEXT_COMMAND:
+            case MESSAGE_CONTEXT_COMMAND:
+                return getCommandInteractionEvent().deferReply();
         }
 
         return null;
@@ -84,6 +113,10 @@ public final class GroupedInteractionEvent {
                 return entitySelectInteractionEvent.deferReply(ephemeral);
             case MODAL_SUBMITTED:
                 return modalInteractionEvent.deferReply(ephemeral);
+            case SLASH_COMMAND:
+            case USER_CONTEXT_COMMAND:
+            case MESSAGE_CONTEXT_COMMAND:
+                return getCommandInteractionEvent().deferReply(ephemeral);
         }
 
         return null;
@@ -91,7 +124,7 @@ public final class GroupedInteractionEvent {
 
     /**
      * Defers edit to the interaction event<br>
-     * Returns null if the interaction type is {@link InteractionType#UNKNOWN}
+     * Returns null if the interaction type is {@link InteractionType#UNKNOWN} or a command, since commands have no message to edit
      *
      * @return Nullable {@link MessageEditCallbackAction}
      */
@@ -110,6 +143,24 @@ public final class GroupedInteractionEvent {
         return null;
     }
 
+    /**
+     * Replies to the interaction event with specified content<br>
+     * Returns null if the interaction type is {@link InteractionType#UNKNOWN}
+     *
+     * @param content Non-null content
+     *
+     * @return Nullable {@link ReplyCallbackAction}
+     */
+    public ReplyCallbackAction reply(@NonNull String content) {
+        IReplyCallback replyCallback = getReplyCallback();
+
+        if (replyCallback == null) {
+            return null;
+        }
+
+        return replyCallback.reply(content);
+    }
+
     /**
      * Replies to the interaction event with a modal<br>
      * Returns null if the interaction type is {@link InteractionType#MODAL_SUBMITTED} or {@link InteractionType#UNKNOWN}
@@ -119,13 +170,17 @@ public final class GroupedInteractionEvent {
      * @return Nullable {@link ModalCallbackAction}
      */
     public ModalCallbackAction replyModal(@NonNull Modal modal) {
-        ComponentInteraction interaction = getComponentInteraction();
+        IModalCallback modalCallback = getComponentInteraction();
 
-        if (interaction == null) {
+        if (modalCallback == null) {
+            modalCallback = getCommandInteractionEvent();
+        }
+
+        if (modalCallback == null) {
             return null;
         }
 
-        return interaction.replyModal(modal);
+        return modalCallback.replyModal(modal);
     }
 
     /**
@@ -171,6 +226,18 @@ public final class GroupedInteractionEvent {
             return InteractionType.MODAL_SUBMITTED;
         }
 
+        if (isSlashCommandInteraction()) {
+            return InteractionType.SLASH_COMMAND;
+        }
+
+        if (isUserContextInteraction()) {
+            return InteractionType.USER_CONTEXT_COMMAND;
+        }
+
+        if (isMessageContextInteraction()) {
+            return InteractionType.MESSAGE_CONTEXT_COMMAND;
+        }
+
         return InteractionType.UNKNOWN;
     }
 
@@ -190,6 +257,27 @@ public final class GroupedInteractionEvent {
         return modalInteractionEvent != null;
     }
 
+    public boolean isSlashCommandInteraction() {
+        return slashCommandInteractionEvent != null;
+    }
+
+    public boolean isUserContextInteraction() {
+        return userContextInteractionEvent != null;
+    }
+
+    public boolean isMessageContextInteraction() {
+        return messageContextInteractionEvent != null;
+    }
+
+    /**
+     * Determines if the interaction is a slash command or a context menu command
+     *
+     * @return True if the interaction is a command
+     */
+    public boolean isCommandInteraction() {
+        return isSlashCommandInteraction() || isUserContextInteraction() || isMessageContextInteraction();
+    }
+
     /**
      * Gets {@link InteractionHook} from corresponding event
      *
@@ -205,16 +293,44 @@ public final class GroupedInteractionEvent {
                 return entitySelectInteractionEvent.getHook();
             case MODAL_SUBMITTED:
                 return modalInteractionEvent.getHook();
+            case SLASH_COMMAND:
+            case USER_CONTEXT_COMMAND:
+            case MESSAGE_CONTEXT_COMMAND:
+                return getCommandInteractionEvent().getHook();
         }
 
         return null;
     }
 
     /**
-     * Returns Message ID of interacted message.
+     * Determines if the interaction was already acknowledged, for example by {@link #deferEdit()} or by {@link DeferralWatchdog}. Once
+     * acknowledged, respond through {@link #getInteractionHook()}.
      *
-     * @return Message ID of interacted message, if the {@link GroupedInteractionEvent} is of type {@link InteractionType#MODAL_SUBMITTED} 0 is
-     * returned
+     * @return True if acknowledged, false if not or if {@link InteractionType} is {@link InteractionType#UNKNOWN}
+     */
+    public boolean isAcknowledged() {
+        IReplyCallback replyCallback = getReplyCallback();
+        return replyCallback != null && replyCallback.isAcknowledged();
+    }
+
+    /**
+     * Determines if the interaction was deferred by {@link DeferralWatchdog}, since its handler did not acknowledge it in time
+     *
+     * @return True if deferred by {@link DeferralWatchdog}
+     */
+    public boolean isDeferredAutomatically() {
+        return deferredAutomatically;
+    }
+
+    void markDeferredAutomatically() {
+        deferredAutomatically = true;
+    }
+
+    /**
+     * Returns Message ID of interacted message. For {@link InteractionType#MESSAGE_CONTEXT_COMMAND} it is the target message.
+     *
+     * @return Message ID of interacted message, 0 if the interaction has no message (for example {@link InteractionType#MODAL_SUBMITTED} or
+     * {@link InteractionType#SLASH_COMMAND})
      */
     public long getInteractedMessageId() {
         switch (getInteractionType()) {
@@ -224,15 +340,18 @@ public final class GroupedInteractionEvent {
                 return stringSelectInteractionEvent.getMessageIdLong();
             case ENTITY_SELECT_MENU_OPTION_CLICK:
                 return entitySelectInteractionEvent.getMessageIdLong();
+            case MESSAGE_CONTEXT_COMMAND:
+                return messageContextInteractionEvent.getTarget().getIdLong();
         }
 
         return 0;
     }
 
     /**
-     * Returns {@link Message} of interacted message.
+     * Returns {@link Message} of interacted message. For {@link InteractionType#MESSAGE_CONTEXT_COMMAND} it is the target message.
      *
-     * @return {@link Message} of interacted message or if the interaction type is of {@link InteractionType#MODAL_SUBMITTED}, null is returned
+     * @return {@link Message} of interacted message, null if the interaction has no message (for example {@link InteractionType#MODAL_SUBMITTED}
+     * or {@link InteractionType#SLASH_COMMAND})
      */
     public Message getInteractedMessage() {
         switch (getInteractionType()) {
@@ -242,6 +361,8 @@ public final class GroupedInteractionEvent {
                 return stringSelectInteractionEvent.getMessage();
             case ENTITY_SELECT_MENU_OPTION_CLICK:
                 return entitySelectInteractionEvent.getMessage();
+            case MESSAGE_CONTEXT_COMMAND:
+                return messageContextInteractionEvent.getTarget();
         }
 
         return null;
@@ -262,6 +383,13 @@ public final class GroupedInteractionEvent {
                 return entitySelectInteractionEvent.getChannel();
             case MODAL_SUBMITTED:
                 return modalInteractionEvent.getChannel();
+            case SLASH_COMMAND:
+                return slashCommandInteractionEvent.getChannel();
+            case MESSAGE_CONTEXT_COMMAND:
+                return messageContextInteractionEvent.getChannel();
+            case USER_CONTEXT_COMMAND:
+                // User context commands can be used outside message channels
+                return userContextInteractionEvent.getChannel() instanceof MessageChannelUnion ? (MessageChannelUnion) userContextInteractionEvent.getChannel() : null;
         }
 
         return null;
@@ -282,11 +410,25 @@ public final class GroupedInteractionEvent {
                 return entitySelectInteractionEvent.getUser();
             case MODAL_SUBMITTED:
                 return modalInteractionEvent.getUser();
+            case SLASH_COMMAND:
+            case USER_CONTEXT_COMMAND:
+            case MESSAGE_CONTEXT_COMMAND:
+                return getCommandInteractionEvent().getUser();
         }
 
         return null;
     }
 
+    /**
+     * Returns {@link Member} who interacted
+     *
+     * @return Nullable {@link Member}, null if the interaction did not happen in guild
+     */
+    public Member getMember() {
+        IReplyCallback replyCallback = getReplyCallback();
+        return replyCallback != null ? replyCallback.getMember() : null;
+    }
+
     /**
      * Returns {@link ComponentInteraction} of interacted message<br>
      * Returns null if {@link InteractionType} is {@link InteractionType#MODAL_SUBMITTED} or {@link InteractionType#UNKNOWN}
@@ -305,4 +447,92 @@ public final class GroupedInteractionEvent {
 
         return null;
     }
+
+    /**
+     * Returns {@link IReplyCallback} of the interaction event
+     *
+     * @return Nullable {@link IReplyCallback}, null if {@link InteractionType} is {@link InteractionType#UNKNOWN}
+     */
+    public IReplyCallback getReplyCallback() {
+        switch (getInteractionType()) {
+            case BUTTON_CLICK:
+                return buttonInteractionEvent;
+            case STRING_SELECT_MENU_OPTION_CLICK:
+                return stringSelectInteractionEvent;
+            case ENTITY_SELECT_MENU_OPTION_CLICK:
+                return entitySelectInteractionEvent;
+            case MODAL_SUBMITTED:
+                return modalInteractionEvent;
+            case SLASH_COMMAND:
+            case USER_CONTEXT_COMMAND:
+            case MESSAGE_CONTEXT_COMMAND:
+                return getCommandInteractionEvent();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns {@link GenericCommandInteractionEvent} of slash command or context menu command
+     *
+     * @return Nullable {@link GenericCommandInteractionEvent}, null if the interaction is not a command
+     */
+    public GenericCommandInteractionEvent getCommandInteractionEvent() {
+        if (slashCommandInteractionEvent != null) {
+            return slashCommandInteractionEvent;
+        }
+
+        if (userContextInteractionEvent != null) {
+            return userContextInteractionEvent;
+        }
+
+        return messageContextInteractionEvent;
+    }
+
+    /**
+     * Returns full name of the command, including subcommand group and subcommand, e.g. {@code "shop buy"}. Context menu commands have only
+     * the command name.
+     *
+     * @return Full command name, null if the interaction is not a command
+     */
+    public String getFullCommandName() {
+        GenericCommandInteractionEvent commandInteractionEvent = getCommandInteractionEvent();
+        return commandInteractionEvent != null ? commandInteractionEvent.getFullCommandName() : null;
+    }
+
+    /**
+     * Returns time at which the interaction was created on Discord's side, taken from the interaction's snowflake ID. Discord allows
+     * acknowledging the interaction only within 3 seconds of this time.
+     *
+     * @return Time in milliseconds since epoch, 0 if {@link InteractionType} is {@link InteractionType#UNKNOWN}
+     */
+    public long getCreationTime() {
+        IReplyCallback replyCallback = getReplyCallback();
+
+        if (replyCallback == null) {
+            return 0;
+        }
+
+        return (replyCallback.getIdLong() >>> TimeUtil.TIMESTAMP_OFFSET) + TimeUtil.DISCORD_EPOCH;
+    }
+
+    /**
+     * Returns ID of interacted component, or modal ID if the {@link InteractionType} is {@link InteractionType#MODAL_SUBMITTED}
+     *
+     * @return Component or modal ID, null if {@link InteractionType} is a command or {@link InteractionType#UNKNOWN}
+     */
+    public String getComponentId() {
+        switch (getInteractionType()) {
+            case BUTTON_CLICK:
+                return buttonInteractionEvent.getComponentId();
+            case STRING_SELECT_MENU_OPTION_CLICK:
+                return stringSelectInteractionEvent.getComponentId();
+            case ENTITY_SELECT_MENU_OPTION_CLICK:
+                return entitySelectInteractionEvent.getComponentId();
+            case MODAL_SUBMITTED:
+                return modalInteractionEvent.getModalId();
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,449 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+import dev.mayuna.mayusjdautils.interactive.persistence.InteractableStore;
+import dev.mayuna.mayusjdautils.interactive.persistence.PersistentInteractable;
+import dev.mayuna.mayusjdautils.metrics.InteractiveMetrics;
+import dev.mayuna.mayusjdautils.util.Mailbox;
+import dev.mayuna.mayusjdautils.util.TimingWheel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds registered {@link Interactable}s and indexes them by IDs of their components (buttons, select menus, select options and modals), so
+ * every interaction event can be routed to its {@link Interactable} with single lookup.<br>
+ * The registry is partitioned by shard ID (see {@link Interactable#getShardId()}), with separate partition for direct messages. Events of one
+ * shard only touch the partition of that shard.<br>
+ * Expiration of registered {@link Interactable}s is handled by {@link TimingWheel} of each partition - registering and removing an
+ * {@link Interactable} is O(1) and expire callbacks ({@link Interactable#onExpire()}) are called on {@link #getExpiredCallbackExecutor()}.<br>
+ * Every {@link InteractiveListener} processes events of its own registry. When running multiple bots in one JVM, give each bot's listener its
+ * own registry, so the bots do not share memory, expiration thread and contention.
+ */
+public final class InteractableRegistry {
+
+    /**
+     * Shard ID used for direct messages and for {@link Interactable}s with unknown shard
+     */
+    public static final int DIRECT_MESSAGES_SHARD_ID = -1;
+
+    private static final InteractableRegistry DEFAULT_REGISTRY = new InteractableRegistry();
+
+    private final Map<Integer, RegistryPartition> partitions = new ConcurrentHashMap<>();
+    final AtomicInteger foreignEntries = new AtomicInteger(); // Indexed component IDs not generated by ComponentIds and unindexed interactables
+    private final AtomicBoolean expirationTickerStarted = new AtomicBoolean(false);
+    private final ScheduledExecutorService expirationTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Interactable-Expire-Checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService defaultExpiredCallbackExecutor = Executors.newCachedThreadPool();
+    private @Getter @Setter @NonNull Executor expiredCallbackExecutor = defaultExpiredCallbackExecutor;
+    private @Getter @Setter @NonNull InteractiveMetrics metrics = InteractiveMetrics.noop();
+    private volatile ComponentDisableScheduler componentDisableScheduler;
+    private volatile MessageEditCoalescer messageEditCoalescer;
+    private @Getter @Setter InteractableStore store; // Nullable, set by InteractableStore#restore()
+
+    /**
+     * Returns default registry, which is used by {@link InteractiveListener#InteractiveListener()} and by {@link Interactable}s which are sent
+     * through {@link JDA} without registered {@link InteractiveListener}
+     *
+     * @return Non-null {@link InteractableRegistry}
+     */
+    public static InteractableRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Returns registry of the first {@link InteractiveListener} registered in specified {@link JDA}. If there is none, the default registry is
+     * returned.
+     *
+     * @param jda Non-null {@link JDA}
+     *
+     * @return Non-null {@link InteractableRegistry}
+     */
+    public static InteractableRegistry findRegistry(@NonNull JDA jda) {
+        List<Object> registeredListeners = jda.getRegisteredListeners();
+
+        if (registeredListeners != null) {
+            for (Object listener : registeredListeners) {
+                if (listener instanceof InteractiveListener) {
+                    return ((InteractiveListener) listener).getRegistry();
+                }
+            }
+        }
+
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Returns shard ID which receives interactions from specified {@link JDA}
+     *
+     * @param jda       Non-null {@link JDA}
+     * @param fromGuild Determines if the interactions are from guild
+     *
+     * @return Shard ID, or {@link #DIRECT_MESSAGES_SHARD_ID} if the interactions are not from guild
+     */
+    public static int getShardId(@NonNull JDA jda, boolean fromGuild) {
+        return fromGuild ? jda.getShardInfo().getShardId() : DIRECT_MESSAGES_SHARD_ID;
+    }
+
+    /**
+     * Returns shard ID which received specified interaction event
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     *
+     * @return Shard ID, or {@link #DIRECT_MESSAGES_SHARD_ID} if the interaction is not from guild
+     */
+    public static int getShardId(@NonNull GroupedInteractionEvent interactionEvent) {
+        IReplyCallback replyCallback = interactionEvent.getReplyCallback();
+
+        if (replyCallback == null) {
+            return DIRECT_MESSAGES_SHARD_ID;
+        }
+
+        return getShardId(replyCallback.getJDA(), replyCallback.isFromGuild());
+    }
+
+    /**
+     * Adds {@link Interactable} to the registry and indexes all of its component IDs. Adding already registered {@link Interactable} only
+     * re-indexes its component IDs.
+     *
+     * @param interactable Non-null {@link Interactable}
+     */
+    public void add(@NonNull Interactable interactable) {
+        getOrCreatePartition(interactable.getShardId()).add(interactable);
+    }
+
+    /**
+     * Removes {@link Interactable} from the registry together with all of its indexed component IDs
+     *
+     * @param interactable Non-null {@link Interactable}
+     *
+     * @return True if the {@link Interactable} was registered, false otherwise
+     */
+    public boolean remove(@NonNull Interactable interactable) {
+        RegistryPartition partition = partitions.get(interactable.getShardId());
+        return partition != null && partition.remove(interactable);
+    }
+
+    /**
+     * Reschedules expiration of already registered {@link Interactable}. Should be called when its expiration time changes. Does nothing if the
+     * {@link Interactable} is not registered.
+     *
+     * @param interactable Non-null {@link Interactable}
+     */
+    public void rescheduleExpiration(@NonNull Interactable interactable) {
+        RegistryPartition partition = partitions.get(interactable.getShardId());
+
+        if (partition != null) {
+            partition.rescheduleExpiration(interactable);
+        }
+    }
+
+    /**
+     * Indexes component ID for already registered {@link Interactable}. Used when component is added after the message was sent. Does nothing if
+     * the {@link Interactable} is not registered.
+     *
+     * @param componentId  Non-null component ID
+     * @param interactable Non-null {@link Interactable}
+     */
+    public void index(@NonNull String componentId, @NonNull Interactable interactable) {
+        RegistryPartition partition = partitions.get(interactable.getShardId());
+
+        if (partition != null) {
+            partition.index(componentId, interactable);
+        }
+    }
+
+    /**
+     * Removes component ID from the index, if it belongs to specified {@link Interactable}. Used when component is removed after the message was
+     * sent.
+     *
+     * @param componentId  Non-null component ID
+     * @param interactable Non-null {@link Interactable}
+     */
+    public void unindex(@NonNull String componentId, @NonNull Interactable interactable) {
+        RegistryPartition partition = partitions.get(interactable.getShardId());
+
+        if (partition != null) {
+            partition.unindex(componentId, interactable);
+        }
+    }
+
+    /**
+     * Finds {@link Interactable} which owns the interacted component. For string select menus, the select menu ID is looked up first and then
+     * the selected option values. The partition of the event's shard is searched first, then the partition for direct messages and unknown
+     * shards.
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     *
+     * @return Nullable {@link Interactable}
+     */
+    public Interactable find(@NonNull GroupedInteractionEvent interactionEvent) {
+        String componentId = interactionEvent.getComponentId();
+
+        if (componentId == null) {
+            return null;
+        }
+
+        int shardId = getShardId(interactionEvent);
+        RegistryPartition partition = partitions.get(shardId);
+        Interactable interactable = partition != null ? partition.find(interactionEvent, componentId) : null;
+
+        if (interactable != null || shardId == DIRECT_MESSAGES_SHARD_ID) {
+            return interactable;
+        }
+
+        partition = partitions.get(DIRECT_MESSAGES_SHARD_ID);
+        return partition != null ? partition.find(interactionEvent, componentId) : null;
+    }
+
+    /**
+     * Returns registered {@link Interactable}s which do not provide their component IDs (see {@link Interactable#getComponentIds()}) and which
+     * should receive specified event
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     *
+     * @return Non-null {@link Collection} of {@link Interactable}s
+     */
+    public Collection<Interactable> getUnindexedInteractables(@NonNull GroupedInteractionEvent interactionEvent) {
+        int shardId = getShardId(interactionEvent);
+        RegistryPartition partition = partitions.get(shardId);
+        RegistryPartition directMessagesPartition = shardId != DIRECT_MESSAGES_SHARD_ID ? partitions.get(DIRECT_MESSAGES_SHARD_ID) : null;
+
+        boolean partitionEmpty = partition == null || partition.unindexedInteractables.isEmpty();
+        boolean directMessagesPartitionEmpty = directMessagesPartition == null || directMessagesPartition.unindexedInteractables.isEmpty();
+
+        if (partitionEmpty && directMessagesPartitionEmpty) {
+            return Collections.emptyList();
+        }
+
+        List<Interactable> interactables = new ArrayList<>();
+
+        if (!partitionEmpty) {
+            interactables.addAll(partition.unindexedInteractables);
+        }
+
+        if (!directMessagesPartitionEmpty) {
+            interactables.addAll(directMessagesPartition.unindexedInteractables);
+        }
+
+        return interactables;
+    }
+
+    /**
+     * Returns {@link Mailbox} of registered {@link Interactable}, which is used to process its events one at a time. The mailbox is created
+     * lazily and discarded when the {@link Interactable} is removed.
+     *
+     * @param interactable Non-null {@link Interactable}
+     *
+     * @return Nullable {@link Mailbox}, null if the {@link Interactable} is not registered
+     */
+    public Mailbox getMailbox(@NonNull Interactable interactable) {
+        RegistryPartition partition = partitions.get(interactable.getShardId());
+        return partition != null ? partition.getMailbox(interactable) : null;
+    }
+
+    /**
+     * Returns {@link ComponentDisableScheduler} which disables components of expired messages of this registry. Created on first use.
+     *
+     * @return Non-null {@link ComponentDisableScheduler}
+     */
+    public ComponentDisableScheduler getComponentDisableScheduler() {
+        ComponentDisableScheduler scheduler = componentDisableScheduler;
+
+        if (scheduler == null) {
+            synchronized (this) {
+                scheduler = componentDisableScheduler;
+
+                if (scheduler == null) {
+                    scheduler = new ComponentDisableScheduler();
+                    componentDisableScheduler = scheduler;
+                }
+            }
+        }
+
+        return scheduler;
+    }
+
+    /**
+     * Returns {@link MessageEditCoalescer} which coalesces edits of interactive messages of this registry. Created on first use.
+     *
+     * @return Non-null {@link MessageEditCoalescer}
+     */
+    public MessageEditCoalescer getMessageEditCoalescer() {
+        MessageEditCoalescer coalescer = messageEditCoalescer;
+
+        if (coalescer == null) {
+            synchronized (this) {
+                coalescer = messageEditCoalescer;
+
+                if (coalescer == null) {
+                    coalescer = new MessageEditCoalescer();
+                    messageEditCoalescer = coalescer;
+                }
+            }
+        }
+
+        return coalescer;
+    }
+
+    /**
+     * Called by {@link InteractiveListener} when message is deleted, so its components are not disabled anymore
+     *
+     * @param messageId Message ID
+     */
+    public void onMessageDeleted(long messageId) {
+        ComponentDisableScheduler scheduler = componentDisableScheduler;
+
+        if (scheduler != null) {
+            scheduler.cancel(messageId);
+        }
+    }
+
+    /**
+     * Determines if any registered {@link Interactable} may own component with specified ID. Component IDs generated by
+     * {@link ComponentIds} may always be owned. Other IDs may be owned only while some {@link Interactable} is indexed under such ID or does not
+     * provide its component IDs at all - otherwise, the event can be ignored without any lookup.
+     *
+     * @param componentId Non-null component ID
+     *
+     * @return False if no registered {@link Interactable} owns the component
+     */
+    public boolean mayOwn(@NonNull String componentId) {
+        return ComponentIds.isGenerated(componentId) || foreignEntries.get() != 0;
+    }
+
+    /**
+     * Determines if the {@link Interactable} is registered
+     *
+     * @param interactable Non-null {@link Interactable}
+     *
+     * @return True if registered
+     */
+    public boolean contains(@NonNull Interactable interactable) {
+        RegistryPartition partition = partitions.get(interactable.getShardId());
+        return partition != null && partition.interactables.contains(interactable);
+    }
+
+    /**
+     * Returns all registered {@link Interactable}s. This creates a copy, so avoid calling it on hot paths.
+     *
+     * @return Non-null {@link Set} of {@link Interactable}s
+     */
+    public Set<Interactable> getInteractables() {
+        Set<Interactable> interactables = new HashSet<>();
+        partitions.values().forEach(partition -> interactables.addAll(partition.interactables));
+        return interactables;
+    }
+
+    /**
+     * Returns number of registered {@link Interactable}s
+     *
+     * @return Number of registered {@link Interactable}s
+     */
+    public int size() {
+        int size = 0;
+
+        for (RegistryPartition partition : partitions.values()) {
+            size += partition.interactables.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns number of registered {@link Interactable}s in partition of specified shard
+     *
+     * @param shardId Shard ID, or {@link #DIRECT_MESSAGES_SHARD_ID}
+     *
+     * @return Number of registered {@link Interactable}s in the partition
+     */
+    public int size(int shardId) {
+        RegistryPartition partition = partitions.get(shardId);
+        return partition != null ? partition.interactables.size() : 0;
+    }
+
+    /**
+     * Stops the expiration thread and removes all registered {@link Interactable}s, without calling their expire callbacks. The registry should
+     * not be used afterwards. Use this when shutting down a bot which has its own registry.<br>
+     * The default expired callback executor is shut down too, after already submitted callbacks finish. Executor set by
+     * {@link #setExpiredCallbackExecutor(Executor)} is not shut down.
+     */
+    public void shutdown() {
+        store = null; // Persisted interactables must survive the shutdown
+        expirationTicker.shutdownNow();
+        defaultExpiredCallbackExecutor.shutdown();
+
+        if (componentDisableScheduler != null) {
+            componentDisableScheduler.stop();
+        }
+
+        if (messageEditCoalescer != null) {
+            messageEditCoalescer.stop();
+        }
+
+        partitions.values().forEach(partition -> partition.interactables.forEach(partition::remove));
+        partitions.clear();
+    }
+
+    void persist(Interactable interactable) {
+        InteractableStore store = this.store;
+
+        if (store != null && interactable instanceof PersistentInteractable) {
+            store.save((PersistentInteractable) interactable);
+        }
+    }
+
+    void unpersist(Interactable interactable) {
+        InteractableStore store = this.store;
+
+        if (store != null && interactable instanceof PersistentInteractable) {
+            store.delete((PersistentInteractable) interactable);
+        }
+    }
+
+    private RegistryPartition getOrCreatePartition(int shardId) {
+        RegistryPartition partition = partitions.get(shardId);
+
+        if (partition != null) {
+            return partition;
+        }
+
+        partition = partitions.computeIfAbsent(shardId, ignored -> new RegistryPartition(this));
+        startExpirationTickerIfNeeded();
+        return partition;
+    }
+
+    private void startExpirationTickerIfNeeded() {
+        if (expirationTickerStarted.get() || !expirationTickerStarted.compareAndSet(false, true)) {
+            return;
+        }
+
+        // One thread drives expiration wheels of all partitions
+        expirationTicker.scheduleAtFixedRate(() -> {
+            for (RegistryPartition partition : partitions.values()) {
+                try {
+                    partition.expirationWheel.tick();
+                } catch (Throwable throwable) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+                }
+            }
+        }, 100, 100, TimeUnit.MILLISECONDS);
+    }
+}
@@ -6,8 +6,6 @@ import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 
-import java.util.UUID;
-
 /**
  * Interaction that can be added to interactive messages
  */
@@ -37,7 +35,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull Button button) {
-        return new Interaction(button.withId(UUID.randomUUID().toString()));
+        return new Interaction(button.withId(ComponentIds.generate()));
     }
 
     /**
@@ -49,7 +47,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull ButtonStyle buttonStyle, String label) {
-        return new Interaction(Button.of(buttonStyle, UUID.randomUUID().toString(), label));
+        return new Interaction(Button.of(buttonStyle, ComponentIds.generate(), label));
     }
 
     /**
@@ -62,7 +60,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull ButtonStyle buttonStyle, String label, boolean disabled) {
-        return new Interaction(Button.of(buttonStyle, UUID.randomUUID().toString(), label).withDisabled(disabled));
+        return new Interaction(Button.of(buttonStyle, ComponentIds.generate(), label).withDisabled(disabled));
     }
 
 
@@ -76,7 +74,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull ButtonStyle buttonStyle, String label, Emoji emoji) {
-        return new Interaction(Button.of(buttonStyle, UUID.randomUUID().toString(), label, emoji));
+        return new Interaction(Button.of(buttonStyle, ComponentIds.generate(), label, emoji));
     }
 
     /**
@@ -90,7 +88,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull ButtonStyle buttonStyle, String label, Emoji emoji, boolean disabled) {
-        return new Interaction(Button.of(buttonStyle, UUID.randomUUID().toString(), label, emoji).withDisabled(disabled));
+        return new Interaction(Button.of(buttonStyle, ComponentIds.generate(), label, emoji).withDisabled(disabled));
     }
 
     /**
@@ -102,7 +100,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull ButtonStyle buttonStyle, Emoji emoji) {
-        return new Interaction(Button.of(buttonStyle, UUID.randomUUID().toString(), emoji));
+        return new Interaction(Button.of(buttonStyle, ComponentIds.generate(), emoji));
     }
 
     /**
@@ -115,7 +113,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asButton(@NonNull ButtonStyle buttonStyle, Emoji emoji, boolean disabled) {
-        return new Interaction(Button.of(buttonStyle, UUID.randomUUID().toString(), emoji).withDisabled(disabled));
+        return new Interaction(Button.of(buttonStyle, ComponentIds.generate(), emoji).withDisabled(disabled));
     }
 
     /**
@@ -127,7 +125,7 @@ public final class Interaction {
      */
     public static Interaction asSelectOption(@NonNull SelectOption selectOption) {
         ;
-        return new Interaction(selectOption.withValue(UUID.randomUUID().toString()));
+        return new Interaction(selectOption.withValue(ComponentIds.generate()));
     }
 
     /**
@@ -138,7 +136,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asSelectOption(@NonNull String label) {
-        return new Interaction(SelectOption.of(label, UUID.randomUUID().toString()));
+        return new Interaction(SelectOption.of(label, ComponentIds.generate()));
     }
 
     /**
@@ -150,7 +148,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asSelectOption(@NonNull String label, @NonNull String description) {
-        return new Interaction(SelectOption.of(label, UUID.randomUUID().toString()).withDescription(description));
+        return new Interaction(SelectOption.of(label, ComponentIds.generate()).withDescription(description));
     }
 
     /**
@@ -163,7 +161,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asSelectOption(@NonNull String label, @NonNull String description, boolean isDefault) {
-        return new Interaction(SelectOption.of(label, UUID.randomUUID().toString()).withDescription(description).withDefault(isDefault));
+        return new Interaction(SelectOption.of(label, ComponentIds.generate()).withDescription(description).withDefault(isDefault));
     }
 
     /**
@@ -177,7 +175,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asSelectOption(@NonNull String label, @NonNull String description, boolean isDefault, @NonNull Emoji emoji) {
-        return new Interaction(SelectOption.of(label, UUID.randomUUID().toString())
+        return new Interaction(SelectOption.of(label, ComponentIds.generate())
                                            .withDescription(description)
                                            .withDefault(isDefault)
                                            .withEmoji(emoji));
@@ -193,7 +191,7 @@ public final class Interaction {
      * @return {@link Interaction} object
      */
     public static Interaction asSelectOption(@NonNull String label, @NonNull String description, @NonNull Emoji emoji) {
-        return new Interaction(SelectOption.of(label, UUID.randomUUID().toString()).withDescription(description).withEmoji(emoji));
+        return new Interaction(SelectOption.of(label, ComponentIds.generate()).withDescription(description).withEmoji(emoji));
     }
 
     /**
@@ -232,6 +230,23 @@ public final class Interaction {
         return isSelectOption() ? selectOption : null;
     }
 
+    /**
+     * Gets ID of {@link Interaction} - Button's ID or Select Option's value
+     *
+     * @return Returns null, if {@link Interaction} is neither Button nor Select Option
+     */
+    public String getId() {
+        if (isButton()) {
+            return button.getId();
+        }
+
+        if (isSelectOption()) {
+            return selectOption.getValue();
+        }
+
+        return null;
+    }
+
     /**
      * Gets {@link Interaction}'s type
      *
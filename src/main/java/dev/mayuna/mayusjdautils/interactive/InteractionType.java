@@ -6,5 +6,9 @@ public enum InteractionType {
     BUTTON_CLICK,
     STRING_SELECT_MENU_OPTION_CLICK,
     ENTITY_SELECT_MENU_OPTION_CLICK,
-    MODAL_SUBMITTED;
+    MODAL_SUBMITTED,
+
+    SLASH_COMMAND,
+    USER_CONTEXT_COMMAND,
+    MESSAGE_CONTEXT_COMMAND;
 }
@@ -1,127 +1,503 @@
 package dev.mayuna.mayusjdautils.interactive;
 
+import dev.mayuna.mayusjdautils.interactive.autocomplete.AutocompleteHandler;
+import dev.mayuna.mayusjdautils.interactive.command.CommandHandler;
 import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+import dev.mayuna.mayusjdautils.interactive.stateless.StatelessComponentId;
+import dev.mayuna.mayusjdautils.interactive.stateless.StatelessInteractionHandler;
+import dev.mayuna.mayusjdautils.metrics.InteractiveMetrics;
+import dev.mayuna.mayusjdautils.util.Mailbox;
+import dev.mayuna.mayusjdautils.util.VirtualThreadUtils;
+import lombok.Getter;
 import lombok.NonNull;
+import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageBulkDeleteEvent;
+import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.MiscUtil;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Register this class into your JDA/ShardManager to ensure everything related to interactive in this library will work.
  */
 public class InteractiveListener extends ListenerAdapter {
 
-    private final static Object lock = new Object();
-
-    private final static List<Interactable> interactables = Collections.synchronizedList(new LinkedList<>());
-    private final static Timer expireCheckerTimer = new Timer("Interactable-Expire-Checker");
-    private Executor eventProcessorExecutor = Executors.newCachedThreadPool();
+    private final @Getter InteractableRegistry registry;
+    private volatile Executor eventProcessorExecutor = Executors.newCachedThreadPool();
+    private boolean eventProcessorExecutorOwned = true; // Created by this listener, shut down when replaced
+    private boolean orderedProcessing = false;
+    private @Getter EventDispatchQueue dispatchQueue;
+    private @Getter DeferralWatchdog deferralWatchdog;
+    private final Map<String, StatelessInteractionHandler> statelessHandlers = new ConcurrentHashMap<>();
+    private final Map<String, CommandHandler> commandHandlers = new ConcurrentHashMap<>(); // Full command name -> handler
+    private final Map<String, Map<String, AutocompleteHandler>> autocompleteHandlers = new ConcurrentHashMap<>(); // Command path -> option name -> handler
 
     /**
-     * Creates new instance of {@link InteractiveListener}
+     * Creates new instance of {@link InteractiveListener} which uses the default {@link InteractableRegistry}, see
+     * {@link InteractableRegistry#getDefault()}. All listeners created by this constructor share the registry.
      */
     public InteractiveListener() {
-        expireCheckerTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                interactables.removeIf(interactable -> {
-                    if (interactable.isExpired()) {
-                        interactable.onExpire();
-                        return true;
-                    } else {
-                        return false;
-                    }
-                });
-            }
-        }, 0, 1000);
+        this(InteractableRegistry.getDefault());
+    }
+
+    /**
+     * Creates new instance of {@link InteractiveListener} with specified {@link InteractableRegistry}. Interactive components sent through
+     * {@link JDA} in which this listener is registered are registered into this registry, unless they are bound to other one.
+     *
+     * @param registry Non-null {@link InteractableRegistry}
+     */
+    public InteractiveListener(@NonNull InteractableRegistry registry) {
+        this.registry = registry;
     }
 
     /**
-     * Adds interactable to the list
+     * Adds interactable to the default registry
      *
      * @param interactable {@link Interactable}
+     *
+     * @deprecated Use {@link InteractableRegistry#add(Interactable)} of the listener's registry instead
      */
+    @Deprecated
     public static void addInteractable(Interactable interactable) {
-        interactables.add(interactable);
+        InteractableRegistry.getDefault().add(interactable);
     }
 
     /**
-     * Removes interactable from the list
+     * Removes interactable from the default registry
      *
      * @param interactable {@link Interactable}
+     *
+     * @deprecated Use {@link InteractableRegistry#remove(Interactable)} of the listener's registry instead
      */
+    @Deprecated
     public static void removeInteractable(Interactable interactable) {
-        interactables.remove(interactable);
+        InteractableRegistry.getDefault().remove(interactable);
     }
 
     /**
-     * Sets {@link Executor} for event processing
+     * Registers handler for components with stateless IDs (see {@link StatelessComponentId}) with specified handler key. Replaces previously
+     * registered handler with the same key.
+     *
+     * @param handlerKey Non-null handler key
+     * @param handler    Non-null {@link StatelessInteractionHandler}
+     */
+    public void registerStatelessHandler(@NonNull String handlerKey, @NonNull StatelessInteractionHandler handler) {
+        statelessHandlers.put(handlerKey, handler);
+    }
+
+    /**
+     * Unregisters handler for components with stateless IDs
+     *
+     * @param handlerKey Non-null handler key
+     */
+    public void unregisterStatelessHandler(@NonNull String handlerKey) {
+        statelessHandlers.remove(handlerKey);
+    }
+
+    /**
+     * Registers handler of slash command or context menu command with specified full name. Replaces previously registered handler of the same
+     * command. Commands without registered handler are ignored, so they can be handled by other listeners.
+     *
+     * @param commandPath Non-null full command name, e.g. {@code "shop buy"} for subcommand {@code buy} of command {@code shop}, or name of
+     *                    context menu command
+     * @param handler     Non-null {@link CommandHandler}
+     */
+    public void registerCommandHandler(@NonNull String commandPath, @NonNull CommandHandler handler) {
+        commandHandlers.put(commandPath, handler);
+    }
+
+    /**
+     * Unregisters handler of command with specified full name
+     *
+     * @param commandPath Non-null full command name
+     */
+    public void unregisterCommandHandler(@NonNull String commandPath) {
+        commandHandlers.remove(commandPath);
+    }
+
+    /**
+     * Registers autocomplete handler for specified option of specified command. Replaces previously registered handler of the same option.
+     *
+     * @param commandPath Non-null full command name, e.g. {@code "shop buy"} for subcommand {@code buy} of command {@code shop}
+     * @param optionName  Non-null option name
+     * @param handler     Non-null {@link AutocompleteHandler}
+     */
+    public void registerAutocompleteHandler(@NonNull String commandPath, @NonNull String optionName, @NonNull AutocompleteHandler handler) {
+        autocompleteHandlers.computeIfAbsent(commandPath, key -> new ConcurrentHashMap<>()).put(optionName, handler);
+    }
+
+    /**
+     * Unregisters autocomplete handler of specified option of specified command
+     *
+     * @param commandPath Non-null full command name
+     * @param optionName  Non-null option name
+     */
+    public void unregisterAutocompleteHandler(@NonNull String commandPath, @NonNull String optionName) {
+        Map<String, AutocompleteHandler> optionHandlers = autocompleteHandlers.get(commandPath);
+
+        if (optionHandlers != null) {
+            optionHandlers.remove(optionName);
+        }
+    }
+
+    /**
+     * Sets {@link Executor} for event processing. The previous executor is shut down if it was created by this listener (the default one or
+     * the one created by {@link #useVirtualThreads()}), events already submitted to it are still processed. Executors set by this method are
+     * never shut down by this listener. Should be called before the listener receives events.
      *
      * @param eventProcessorExecutor {@link Executor}
      */
     public void setEventProcessorExecutor(@NonNull Executor eventProcessorExecutor) {
+        replaceEventProcessorExecutor(eventProcessorExecutor, false);
+    }
+
+    private synchronized void replaceEventProcessorExecutor(Executor eventProcessorExecutor, boolean owned) {
+        Executor previousExecutor = this.eventProcessorExecutor;
+        boolean previousOwned = this.eventProcessorExecutorOwned;
+
         this.eventProcessorExecutor = eventProcessorExecutor;
+        this.eventProcessorExecutorOwned = owned;
+
+        if (previousOwned && previousExecutor != eventProcessorExecutor && previousExecutor instanceof ExecutorService) {
+            ((ExecutorService) previousExecutor).shutdown();
+        }
+    }
+
+    /**
+     * Returns whether ordered processing is enabled, see {@link #setOrderedProcessing(boolean)}
+     *
+     * @return True if ordered processing is enabled
+     */
+    public boolean isOrderedProcessing() {
+        return orderedProcessing;
+    }
+
+    /**
+     * Enables or disables ordered processing. When enabled, events of one {@link Interactable} are processed one at a time in order of their
+     * arrival, so handlers of single message do not have to be synchronized. Events of different {@link Interactable}s are still processed in
+     * parallel. Disabled by default.
+     *
+     * @param orderedProcessing True to enable ordered processing
+     */
+    public void setOrderedProcessing(boolean orderedProcessing) {
+        this.orderedProcessing = orderedProcessing;
+    }
+
+    /**
+     * Sets {@link EventDispatchQueue} which limits number of events waiting for processing. By default, there is no limit.
+     *
+     * @param dispatchQueue Nullable {@link EventDispatchQueue}, null removes the limit
+     */
+    public void setDispatchQueue(EventDispatchQueue dispatchQueue) {
+        this.dispatchQueue = dispatchQueue;
+    }
+
+    /**
+     * Sets {@link DeferralWatchdog} which defers interactions not acknowledged by their handlers in time. By default, there is no watchdog.
+     *
+     * @param deferralWatchdog Nullable {@link DeferralWatchdog}, null disables the watchdog
+     */
+    public void setDeferralWatchdog(DeferralWatchdog deferralWatchdog) {
+        this.deferralWatchdog = deferralWatchdog;
+    }
+
+    /**
+     * Makes this listener process every event on its own virtual thread (JDK 21+). Useful when handlers block, for example on
+     * {@link RestAction#complete()}, since blocked virtual threads do not hold platform threads.<br>
+     * If the runtime does not support virtual threads, current {@link Executor} is kept. See {@link #setEventProcessorExecutor(Executor)} for
+     * what happens with the previous executor.
+     *
+     * @return True if virtual threads are used, false if the runtime does not support them
+     */
+    public boolean useVirtualThreads() {
+        if (!VirtualThreadUtils.isSupported()) {
+            return false;
+        }
+
+        replaceEventProcessorExecutor(VirtualThreadUtils.newVirtualThreadPerTaskExecutor("Interactive-Event-Processor-"), true);
+        return true;
     }
 
     @Override
     public void onButtonInteraction(ButtonInteractionEvent event) {
-        if (!ensureUserIsValidAndNotBot(event.getUser())) {
+        if (!mayBeOwned(event.getComponentId()) || !ensureUserIsValidAndNotBot(event.getUser())) {
             return;
         }
 
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
         GroupedInteractionEvent interactionEvent = new GroupedInteractionEvent(event);
-        processEvent(interactionEvent);
+        processEvent(interactionEvent, receivedNanos);
     }
 
     @Override
     public void onStringSelectInteraction(StringSelectInteractionEvent event) {
-        if (!ensureUserIsValidAndNotBot(event.getUser())) {
+        if (!mayBeOwned(event.getComponentId()) || !ensureUserIsValidAndNotBot(event.getUser())) {
             return;
         }
 
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
         GroupedInteractionEvent interactionEvent = new GroupedInteractionEvent(event);
-        processEvent(interactionEvent);
+        processEvent(interactionEvent, receivedNanos);
     }
 
     @Override
     public void onEntitySelectInteraction(EntitySelectInteractionEvent event) {
-        if (!ensureUserIsValidAndNotBot(event.getUser())) {
+        if (!mayBeOwned(event.getComponentId()) || !ensureUserIsValidAndNotBot(event.getUser())) {
             return;
         }
 
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
         GroupedInteractionEvent interactionEvent = new GroupedInteractionEvent(event);
-        processEvent(interactionEvent);
+        processEvent(interactionEvent, receivedNanos);
     }
 
     @Override
     public void onModalInteraction(ModalInteractionEvent event) {
-        if (!ensureUserIsValidAndNotBot(event.getUser())) {
+        if (!mayBeOwned(event.getModalId()) || !ensureUserIsValidAndNotBot(event.getUser())) {
             return;
         }
 
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
         GroupedInteractionEvent interactionEvent = new GroupedInteractionEvent(event);
-        processEvent(interactionEvent);
+        processEvent(interactionEvent, receivedNanos);
+    }
+
+    @Override
+    public void onSlashCommandInteraction(SlashCommandInteractionEvent event) {
+        CommandHandler handler = commandHandlers.get(event.getFullCommandName());
+
+        if (handler == null || !ensureUserIsValidAndNotBot(event.getUser())) {
+            return;
+        }
+
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
+        processCommandEvent(new GroupedInteractionEvent(event), handler, receivedNanos);
+    }
+
+    @Override
+    public void onUserContextInteraction(UserContextInteractionEvent event) {
+        CommandHandler handler = commandHandlers.get(event.getFullCommandName());
+
+        if (handler == null || !ensureUserIsValidAndNotBot(event.getUser())) {
+            return;
+        }
+
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
+        processCommandEvent(new GroupedInteractionEvent(event), handler, receivedNanos);
+    }
+
+    @Override
+    public void onMessageContextInteraction(MessageContextInteractionEvent event) {
+        CommandHandler handler = commandHandlers.get(event.getFullCommandName());
+
+        if (handler == null || !ensureUserIsValidAndNotBot(event.getUser())) {
+            return;
+        }
+
+        long receivedNanos = registry.getMetrics().isEnabled() ? System.nanoTime() : 0;
+        processCommandEvent(new GroupedInteractionEvent(event), handler, receivedNanos);
+    }
+
+    @Override
+    public void onCommandAutoCompleteInteraction(CommandAutoCompleteInteractionEvent event) {
+        Map<String, AutocompleteHandler> optionHandlers = autocompleteHandlers.get(event.getFullCommandName());
+
+        if (optionHandlers == null) {
+            return;
+        }
+
+        AutocompleteHandler handler = optionHandlers.get(event.getFocusedOption().getName());
+
+        if (handler == null) {
+            return;
+        }
+
+        // Autocomplete is not processed by interactables, so it bypasses dispatch queue and ordered processing
+        eventProcessorExecutor.execute(() -> handler.handle(event));
+    }
+
+    @Override
+    public void onMessageDelete(MessageDeleteEvent event) {
+        registry.onMessageDeleted(event.getMessageIdLong());
+    }
+
+    @Override
+    public void onMessageBulkDelete(MessageBulkDeleteEvent event) {
+        for (String messageId : event.getMessageIds()) {
+            registry.onMessageDeleted(MiscUtil.parseSnowflake(messageId));
+        }
     }
 
     ////////////////
     // Processing //
     ////////////////
 
-    private void processEvent(GroupedInteractionEvent interactionEvent) {
-        interactables.forEach(interactable -> eventProcessorExecutor.execute(() -> interactable.process(interactionEvent)));
+    private void processEvent(GroupedInteractionEvent interactionEvent, long receivedNanos) {
+        String componentId = interactionEvent.getComponentId();
+
+        if (componentId != null && StatelessComponentId.isStateless(componentId)) {
+            processStatelessEvent(interactionEvent, componentId, receivedNanos);
+            return;
+        }
+
+        Interactable interactable = registry.find(interactionEvent);
+        boolean accepted = false;
+
+        if (interactable != null) {
+            accepted = dispatch(interactable, interactionEvent, receivedNanos);
+        }
+
+        // Interactables which do not provide their component IDs
+        Collection<Interactable> unindexedInteractables = registry.getUnindexedInteractables(interactionEvent);
+
+        for (Interactable unindexedInteractable : unindexedInteractables) {
+            accepted |= dispatch(unindexedInteractable, interactionEvent, receivedNanos);
+        }
+
+        if (interactable == null && unindexedInteractables.isEmpty()) {
+            registry.getMetrics().onUnmatchedEvent(interactionEvent);
+            return;
+        }
+
+        if (accepted) {
+            watch(interactionEvent);
+        }
+    }
+
+    private void processStatelessEvent(GroupedInteractionEvent interactionEvent, String componentId, long receivedNanos) {
+        StatelessComponentId statelessComponentId = StatelessComponentId.decode(componentId);
+        StatelessInteractionHandler handler = statelessComponentId != null ? statelessHandlers.get(statelessComponentId.getHandlerKey()) : null;
+
+        if (handler == null) {
+            registry.getMetrics().onUnmatchedEvent(interactionEvent);
+            return;
+        }
+
+        if (dispatch(null, interactionEvent, () -> handler.handle(interactionEvent, statelessComponentId.getState()), receivedNanos)) {
+            watch(interactionEvent);
+        }
+    }
+
+    private void processCommandEvent(GroupedInteractionEvent interactionEvent, CommandHandler handler, long receivedNanos) {
+        if (dispatch(null, interactionEvent, () -> handler.handle(interactionEvent), receivedNanos)) {
+            watch(interactionEvent);
+        }
+    }
+
+    private void watch(GroupedInteractionEvent interactionEvent) {
+        DeferralWatchdog deferralWatchdog = this.deferralWatchdog;
+
+        if (deferralWatchdog != null) {
+            deferralWatchdog.watch(interactionEvent);
+        }
+    }
+
+    private boolean dispatch(Interactable interactable, GroupedInteractionEvent interactionEvent, long receivedNanos) {
+        return dispatch(interactable, interactionEvent, () -> interactable.process(interactionEvent), receivedNanos);
+    }
+
+    /**
+     * Dispatches the handler for processing
+     *
+     * @return True if the handler will be processed, false if the {@link EventDispatchQueue} rejected the event or the event is too old
+     */
+    private boolean dispatch(Interactable interactable, GroupedInteractionEvent interactionEvent, Runnable handler, long receivedNanos) {
+        InteractiveMetrics metrics = registry.getMetrics();
+        Runnable task = createTask(handler, receivedNanos, metrics);
+        EventDispatchQueue dispatchQueue = this.dispatchQueue;
+        boolean accepted = true;
+
+        if (dispatchQueue == null) {
+            execute(interactable, task);
+        } else {
+            // Ordered events are run through their mailbox by the queue's tasks, so the queue bounds them as well
+            Mailbox mailbox = orderedProcessing && interactable != null ? registry.getMailbox(interactable) : null;
+            accepted = dispatchQueue.submit(interactionEvent, task, mailbox, eventProcessorExecutor);
+        }
+
+        if (metrics.isEnabled()) {
+            int queueDepth = getQueueDepth();
+
+            if (queueDepth >= 0) {
+                metrics.recordQueueDepth(queueDepth);
+            }
+        }
+
+        return accepted;
+    }
+
+    private void execute(Interactable interactable, Runnable task) {
+        // Stateless handlers and commands do not have Interactable, so they are never ordered
+        if (orderedProcessing && interactable != null) {
+            Mailbox mailbox = registry.getMailbox(interactable);
+
+            if (mailbox != null) {
+                mailbox.execute(task, eventProcessorExecutor);
+                return;
+            }
+        }
+
+        eventProcessorExecutor.execute(task);
+    }
+
+    private Runnable createTask(Runnable handler, long receivedNanos, InteractiveMetrics metrics) {
+        if (!metrics.isEnabled()) {
+            return handler;
+        }
+
+        return () -> {
+            metrics.recordHandlerStartLatency(System.nanoTime() - receivedNanos);
+
+            try {
+                handler.run();
+            } finally {
+                metrics.recordHandlerEndLatency(System.nanoTime() - receivedNanos);
+            }
+        };
+    }
+
+    private int getQueueDepth() {
+        EventDispatchQueue dispatchQueue = this.dispatchQueue;
+
+        if (dispatchQueue != null) {
+            return dispatchQueue.size();
+        }
+
+        if (eventProcessorExecutor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) eventProcessorExecutor).getQueue().size();
+        }
+
+        return -1;
     }
 
     //////////
     // Util //
     //////////
 
+    /**
+     * Rejects events of components which were not created by this library, before anything is allocated for them
+     */
+    private boolean mayBeOwned(String componentId) {
+        return StatelessComponentId.isStateless(componentId) || registry.mayOwn(componentId);
+    }
+
     private boolean ensureUserIsValidAndNotBot(User user) {
         return user != null && !user.isBot();
     }
@@ -0,0 +1,149 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces edits of the same message. The first edit of a message waits {@link #getWindowMillis()} - edits of the same message submitted
+ * in the meantime replace it and only the latest one is sent. Futures of all replaced edits complete with the result of the sent one.<br>
+ * Edits of one message are sent in order, next edit is sent after the previous one completes.
+ */
+public final class MessageEditCoalescer {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Message-Edit-Coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Long, PendingEdit> pendingEdits = new ConcurrentHashMap<>();
+    private final AtomicLong submittedEdits = new AtomicLong();
+    private final AtomicLong sentEdits = new AtomicLong();
+
+    // Settings
+    private @Getter @Setter long windowMillis = 250;
+
+    /**
+     * Submits edit of specified message. The {@link RestAction} is created when the edit is sent, so it should read the latest state.
+     *
+     * @param messageId          ID of the edited message
+     * @param editActionSupplier Non-null supplier of {@link RestAction} which edits the message
+     *
+     * @return Non-null {@link CompletableFuture}, completed when the edit which replaced this one is sent
+     */
+    public CompletableFuture<Message> edit(long messageId, @NonNull Supplier<RestAction<Message>> editActionSupplier) {
+        submittedEdits.incrementAndGet();
+
+        while (true) {
+            PendingEdit pendingEdit = pendingEdits.get(messageId);
+
+            if (pendingEdit != null && pendingEdit.replace(editActionSupplier)) {
+                return pendingEdit.future.thenApply(message -> message);
+            }
+
+            PendingEdit newPendingEdit = new PendingEdit(messageId, editActionSupplier);
+
+            if (pendingEdit == null ? pendingEdits.putIfAbsent(messageId, newPendingEdit) == null
+                                    : pendingEdits.replace(messageId, pendingEdit, newPendingEdit)) {
+                schedule(newPendingEdit, pendingEdit);
+                return newPendingEdit.future.thenApply(message -> message);
+            }
+        }
+    }
+
+    /**
+     * Returns number of submitted edits
+     *
+     * @return Number of submitted edits
+     */
+    public long getSubmittedEdits() {
+        return submittedEdits.get();
+    }
+
+    /**
+     * Returns number of sent edits. The difference from {@link #getSubmittedEdits()} is number of coalesced edits.
+     *
+     * @return Number of sent edits
+     */
+    public long getSentEdits() {
+        return sentEdits.get();
+    }
+
+    /**
+     * Stops the coalescer thread. Pending edits are not sent and their futures never complete.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(PendingEdit pendingEdit, PendingEdit previousPendingEdit) {
+        try {
+            executor.schedule(() -> {
+                if (previousPendingEdit == null || previousPendingEdit.future.isDone()) {
+                    send(pendingEdit);
+                    return;
+                }
+
+                // Previous edit is still in flight
+                previousPendingEdit.future.whenComplete((message, throwable) -> executor.execute(() -> send(pendingEdit)));
+            }, windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            pendingEdits.remove(pendingEdit.messageId, pendingEdit);
+            pendingEdit.future.completeExceptionally(exception);
+        }
+    }
+
+    private void send(PendingEdit pendingEdit) {
+        Supplier<RestAction<Message>> editActionSupplier = pendingEdit.markSent();
+
+        try {
+            editActionSupplier.get().queue(message -> {
+                pendingEdits.remove(pendingEdit.messageId, pendingEdit);
+                pendingEdit.future.complete(message);
+            }, throwable -> {
+                pendingEdits.remove(pendingEdit.messageId, pendingEdit);
+                pendingEdit.future.completeExceptionally(throwable);
+            });
+
+            sentEdits.incrementAndGet();
+        } catch (Throwable throwable) {
+            pendingEdits.remove(pendingEdit.messageId, pendingEdit);
+            pendingEdit.future.completeExceptionally(throwable);
+        }
+    }
+
+    private static final class PendingEdit {
+
+        private final long messageId;
+        private final CompletableFuture<Message> future = new CompletableFuture<>();
+        private Supplier<RestAction<Message>> editActionSupplier;
+        private boolean sent;
+
+        private PendingEdit(long messageId, Supplier<RestAction<Message>> editActionSupplier) {
+            this.messageId = messageId;
+            this.editActionSupplier = editActionSupplier;
+        }
+
+        private synchronized boolean replace(Supplier<RestAction<Message>> editActionSupplier) {
+            if (sent) {
+                return false;
+            }
+
+            this.editActionSupplier = editActionSupplier;
+            return true;
+        }
+
+        private synchronized Supplier<RestAction<Message>> markSent() {
+            sent = true;
+            return editActionSupplier;
+        }
+    }
+}
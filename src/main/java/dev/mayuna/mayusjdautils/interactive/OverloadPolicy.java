@@ -0,0 +1,19 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+/**
+ * Determines what {@link EventDispatchQueue} does with new event when it is full
+ */
+public enum OverloadPolicy {
+    /**
+     * Oldest waiting event is dropped to make space for the new one
+     */
+    DROP_OLDEST,
+    /**
+     * New event is rejected and its user receives ephemeral busy reply, see {@link EventDispatchQueue#setBusyMessage(String)}
+     */
+    REJECT_NEWEST,
+    /**
+     * The gateway thread is blocked until there is space in the queue or until the event cannot be acknowledged anymore
+     */
+    BLOCK;
+}
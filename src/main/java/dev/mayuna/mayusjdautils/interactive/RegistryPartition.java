@@ -0,0 +1,211 @@
+package dev.mayuna.mayusjdautils.interactive;
+
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+import dev.mayuna.mayusjdautils.util.Mailbox;
+import dev.mayuna.mayusjdautils.util.TimingWheel;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partition of {@link InteractableRegistry} holding {@link Interactable}s of one shard, with its own component ID index and expiration wheel
+ */
+final class RegistryPartition {
+
+    private final InteractableRegistry registry;
+
+    final Set<Interactable> interactables = ConcurrentHashMap.newKeySet();
+    final Set<Interactable> unindexedInteractables = ConcurrentHashMap.newKeySet();
+    private final Map<String, Interactable> componentIdIndex = new ConcurrentHashMap<>();
+    private final Map<Interactable, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // Expiration
+    private final Map<Interactable, TimingWheel.Timeout<Interactable>> expirationTimeouts = new ConcurrentHashMap<>();
+    final TimingWheel<Interactable> expirationWheel = new TimingWheel<>(100, TimeUnit.MILLISECONDS, this::onExpirationTimeout);
+
+    RegistryPartition(InteractableRegistry registry) {
+        this.registry = registry;
+    }
+
+    void add(Interactable interactable) {
+        if (interactables.add(interactable)) {
+            registry.getMetrics().onInteractableRegistered(interactable);
+        }
+
+        scheduleExpiration(interactable);
+
+        Collection<String> componentIds = interactable.getComponentIds();
+
+        if (componentIds == null) {
+            if (unindexedInteractables.add(interactable)) {
+                registry.foreignEntries.incrementAndGet();
+            }
+        } else {
+            for (String componentId : componentIds) {
+                if (componentId != null) {
+                    putIndex(componentId, interactable);
+                }
+            }
+        }
+
+        registry.persist(interactable);
+    }
+
+    boolean remove(Interactable interactable) {
+        if (!interactables.remove(interactable)) {
+            return false;
+        }
+
+        registry.getMetrics().onInteractableUnregistered(interactable);
+        registry.unpersist(interactable);
+
+        TimingWheel.Timeout<Interactable> timeout = expirationTimeouts.remove(interactable);
+
+        if (timeout != null) {
+            timeout.cancel();
+        }
+
+        mailboxes.remove(interactable);
+
+        if (unindexedInteractables.remove(interactable)) {
+            registry.foreignEntries.decrementAndGet();
+            return true;
+        }
+
+        Collection<String> componentIds = interactable.getComponentIds();
+
+        if (componentIds != null) {
+            for (String componentId : componentIds) {
+                if (componentId != null) {
+                    removeIndex(componentId, interactable);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    void index(String componentId, Interactable interactable) {
+        if (interactables.contains(interactable)) {
+            putIndex(componentId, interactable);
+            registry.persist(interactable);
+        }
+    }
+
+    void unindex(String componentId, Interactable interactable) {
+        if (removeIndex(componentId, interactable)) {
+            registry.persist(interactable);
+        }
+    }
+
+    Interactable find(GroupedInteractionEvent interactionEvent, String componentId) {
+        Interactable interactable = componentIdIndex.get(componentId);
+
+        if (interactable != null || !interactionEvent.isStringSelectMenuInteraction()) {
+            return interactable;
+        }
+
+        for (SelectOption selectedOption : interactionEvent.getStringSelectInteractionEvent().getSelectedOptions()) {
+            interactable = componentIdIndex.get(selectedOption.getValue());
+
+            if (interactable != null) {
+                return interactable;
+            }
+        }
+
+        return null;
+    }
+
+    Mailbox getMailbox(Interactable interactable) {
+        if (!interactables.contains(interactable)) {
+            return null;
+        }
+
+        Mailbox mailbox = mailboxes.computeIfAbsent(interactable, ignored -> new Mailbox());
+
+        if (!interactables.contains(interactable)) {
+            // Removed in the meantime
+            mailboxes.remove(interactable, mailbox);
+        }
+
+        return mailbox;
+    }
+
+    void rescheduleExpiration(Interactable interactable) {
+        if (interactables.contains(interactable)) {
+            scheduleExpiration(interactable);
+            registry.persist(interactable);
+        }
+    }
+
+    private void putIndex(String componentId, Interactable interactable) {
+        if (componentIdIndex.put(componentId, interactable) == null && !ComponentIds.isGenerated(componentId)) {
+            registry.foreignEntries.incrementAndGet();
+        }
+    }
+
+    private boolean removeIndex(String componentId, Interactable interactable) {
+        if (!componentIdIndex.remove(componentId, interactable)) {
+            return false;
+        }
+
+        if (!ComponentIds.isGenerated(componentId)) {
+            registry.foreignEntries.decrementAndGet();
+        }
+
+        return true;
+    }
+
+    ////////////////
+    // Expiration //
+    ////////////////
+
+    private void scheduleExpiration(Interactable interactable) {
+        long expirationTime = interactable.getExpirationTime();
+        TimingWheel.Timeout<Interactable> previousTimeout;
+
+        if (expirationTime == 0) {
+            previousTimeout = expirationTimeouts.remove(interactable);
+        } else {
+            previousTimeout = expirationTimeouts.get(interactable);
+
+            if (previousTimeout != null && previousTimeout.getDeadline() == expirationTime) {
+                return;
+            }
+
+            previousTimeout = expirationTimeouts.put(interactable, expirationWheel.schedule(interactable, expirationTime));
+        }
+
+        if (previousTimeout != null) {
+            previousTimeout.cancel();
+        }
+    }
+
+    private void onExpirationTimeout(TimingWheel.Timeout<Interactable> timeout) {
+        Interactable interactable = timeout.getValue();
+
+        if (!interactable.isExpired()) {
+            // Expiration time was changed in the meantime
+            long expirationTime = interactable.getExpirationTime();
+
+            if (expirationTime == 0) {
+                expirationTimeouts.remove(interactable, timeout);
+            } else {
+                // Idle expiration moves the deadline without rescheduling, so it is rescheduled only once per passed deadline
+                expirationTimeouts.replace(interactable, timeout, expirationWheel.schedule(interactable, expirationTime));
+            }
+
+            registry.persist(interactable);
+            return;
+        }
+
+        if (expirationTimeouts.remove(interactable, timeout) && remove(interactable)) {
+            registry.getMetrics().recordExpiration(interactable, System.currentTimeMillis() - timeout.getDeadline());
+            registry.getExpiredCallbackExecutor().execute(interactable::onExpire);
+        }
+    }
+}
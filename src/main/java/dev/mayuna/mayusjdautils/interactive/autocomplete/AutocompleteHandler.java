@@ -0,0 +1,34 @@
+package dev.mayuna.mayusjdautils.interactive.autocomplete;
+
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import dev.mayuna.mayusjdautils.util.PrefixIndex;
+import lombok.NonNull;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.Command;
+
+/**
+ * Handles autocomplete of slash command option. Register it with
+ * {@link InteractiveListener#registerAutocompleteHandler(String, String, AutocompleteHandler)}. Discord waits for the choices only a few
+ * seconds, so the handler should not do any blocking work - see {@link #of(PrefixIndex)}.
+ */
+@FunctionalInterface
+public interface AutocompleteHandler {
+
+    /**
+     * Creates {@link AutocompleteHandler} which replies with choices of specified {@link PrefixIndex} for the typed value
+     *
+     * @param prefixIndex Non-null {@link PrefixIndex} of {@link Command.Choice}s
+     *
+     * @return Non-null {@link AutocompleteHandler}
+     */
+    static AutocompleteHandler of(@NonNull PrefixIndex<Command.Choice> prefixIndex) {
+        return event -> event.replyChoices(prefixIndex.complete(event.getFocusedOption().getValue())).queue();
+    }
+
+    /**
+     * Handles the autocomplete, usually by replying with {@link CommandAutoCompleteInteractionEvent#replyChoices(Command.Choice...)}
+     *
+     * @param event Non-null {@link CommandAutoCompleteInteractionEvent}
+     */
+    void handle(CommandAutoCompleteInteractionEvent event);
+}
@@ -0,0 +1,19 @@
+package dev.mayuna.mayusjdautils.interactive.command;
+
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+
+/**
+ * Handles slash command or context menu command. Register it with {@link InteractiveListener#registerCommandHandler(String, CommandHandler)}.
+ * It is processed by the same executor, dispatch queue, deferral watchdog and metrics as interactions with components.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+
+    /**
+     * Handles the command
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}, see {@link GroupedInteractionEvent#getCommandInteractionEvent()}
+     */
+    void handle(GroupedInteractionEvent interactionEvent);
+}
@@ -0,0 +1,104 @@
+package dev.mayuna.mayusjdautils.interactive.components;
+
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
+import lombok.Getter;
+import lombok.NonNull;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.internal.utils.tuple.ImmutablePair;
+import net.dv8tion.jda.internal.utils.tuple.MutablePair;
+import net.dv8tion.jda.internal.utils.tuple.Pair;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry binding, registration and expiration of interactive component. Components delegate their methods to it, so the logic is shared
+ * by all of them.
+ */
+class ComponentSupport {
+
+    private final Interactable interactable;
+    private final Expiration expiration = new Expiration();
+    private @Getter int shardId = InteractableRegistry.DIRECT_MESSAGES_SHARD_ID;
+    private @Getter InteractableRegistry registry = InteractableRegistry.getDefault();
+    private InteractableRegistry boundRegistry;
+    private @Getter Pair<Long, TimeUnit> expireAfter = new MutablePair<>(5L, TimeUnit.MINUTES);
+    private @Getter Runnable expiredRunnable;
+
+    /**
+     * Creates new {@link ComponentSupport}
+     *
+     * @param interactable Non-null component which delegates to this support
+     */
+    ComponentSupport(@NonNull Interactable interactable) {
+        this.interactable = interactable;
+    }
+
+    /**
+     * Binds the component to specified {@link InteractableRegistry}, takes effect when it is registered next time
+     *
+     * @param registry Non-null {@link InteractableRegistry}
+     */
+    void bindTo(@NonNull InteractableRegistry registry) {
+        this.boundRegistry = registry;
+    }
+
+    void expireAfter(long number, @NonNull TimeUnit timeUnit) {
+        expireAfter = new ImmutablePair<>(number, timeUnit);
+        expiration.expireAfter(timeUnit.toMillis(number));
+        registry.rescheduleExpiration(interactable);
+    }
+
+    void expireAfterIdle(long idleTime, long maxLifetime, @NonNull TimeUnit timeUnit) {
+        expiration.expireAfterIdle(timeUnit.toMillis(idleTime), timeUnit.toMillis(maxLifetime));
+        expireAfter = new ImmutablePair<>(idleTime, timeUnit);
+        registry.rescheduleExpiration(interactable);
+    }
+
+    void whenExpired(@NonNull Runnable expiredRunnable) {
+        this.expiredRunnable = expiredRunnable;
+    }
+
+    /**
+     * Registers the component into the bound registry, or into registry of the {@link JDA}'s listener, in partition of the shard
+     *
+     * @param jda       Non-null {@link JDA} through which the component is sent
+     * @param fromGuild Whether the component is sent in guild
+     */
+    void register(@NonNull JDA jda, boolean fromGuild) {
+        InteractableRegistry newRegistry = boundRegistry != null ? boundRegistry : InteractableRegistry.findRegistry(jda);
+        int newShardId = InteractableRegistry.getShardId(jda, fromGuild);
+
+        if (registry != newRegistry || shardId != newShardId) {
+            // Registry or its partition changed, so it has to be registered again
+            registry.remove(interactable);
+            registry = newRegistry;
+            shardId = newShardId;
+        }
+
+        registry.add(interactable);
+    }
+
+    /**
+     * Extends the deadline of the component, see {@link Expiration#onInteraction()}
+     */
+    void onInteraction() {
+        expiration.onInteraction();
+    }
+
+    boolean isExpired() {
+        return expiration.isExpired();
+    }
+
+    long getExpirationTime() {
+        return expiration.getExpirationTime();
+    }
+
+    /**
+     * Runs the expired runnable
+     */
+    void onExpire() {
+        if (expiredRunnable != null) {
+            expiredRunnable.run();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dev.mayuna.mayusjdautils.interactive.components;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expiration time of interactive component. Counts either from creation of the component (fixed) or from its last interaction (idle), with
+ * optional maximum lifetime.<br>
+ * In idle mode, {@link #onInteraction()} only stores current time - registry's expiration wheel finds the moved deadline when the old one
+ * passes and reschedules the component then.
+ */
+final class Expiration {
+
+    private final long createdTime = System.currentTimeMillis();
+    private final AtomicLong lastInteractionTime = new AtomicLong(createdTime);
+
+    private volatile long expireAfterMillis = TimeUnit.MINUTES.toMillis(5);
+    private volatile long maxLifetimeMillis = 0;
+    private volatile boolean idle = false;
+
+    /**
+     * Expires the component after specified time since its creation
+     *
+     * @param expireAfterMillis Time in milliseconds, zero means never
+     */
+    void expireAfter(long expireAfterMillis) {
+        this.expireAfterMillis = expireAfterMillis;
+        this.maxLifetimeMillis = 0;
+        this.idle = false;
+    }
+
+    /**
+     * Expires the component after specified time since its last interaction, but no later than after maximum lifetime
+     *
+     * @param idleMillis        Idle time in milliseconds
+     * @param maxLifetimeMillis Maximum lifetime in milliseconds, zero means unlimited
+     */
+    void expireAfterIdle(long idleMillis, long maxLifetimeMillis) {
+        if (idleMillis <= 0) {
+            throw new IllegalArgumentException("Idle time must be positive!");
+        }
+
+        if (maxLifetimeMillis < 0) {
+            throw new IllegalArgumentException("Maximum lifetime must not be negative!");
+        }
+
+        this.expireAfterMillis = idleMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.idle = true;
+    }
+
+    /**
+     * Extends the deadline in idle mode. Costs single ordered write, nothing is rescheduled.
+     */
+    void onInteraction() {
+        if (idle) {
+            lastInteractionTime.lazySet(System.currentTimeMillis());
+        }
+    }
+
+    long getExpirationTime() {
+        long expireAfterMillis = this.expireAfterMillis;
+
+        if (!idle) {
+            return expireAfterMillis == 0 ? 0 : createdTime + expireAfterMillis;
+        }
+
+        long expirationTime = lastInteractionTime.get() + expireAfterMillis;
+        long maxLifetimeMillis = this.maxLifetimeMillis;
+
+        if (maxLifetimeMillis != 0) {
+            expirationTime = Math.min(expirationTime, createdTime + maxLifetimeMillis);
+        }
+
+        return expirationTime;
+    }
+
+    boolean isExpired() {
+        long expirationTime = getExpirationTime();
+        return expirationTime != 0 && expirationTime < System.currentTimeMillis();
+    }
+}
@@ -1,10 +1,12 @@
 package dev.mayuna.mayusjdautils.interactive.components;
 
 import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
 import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.internal.utils.tuple.Pair;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 public interface Interactable {
@@ -19,4 +21,44 @@ public interface Interactable {
 
     default void onExpire() {
     }
+
+    /**
+     * Returns time at which this {@link Interactable} expires, in milliseconds since epoch. Zero means it never expires.<br>
+     * The default implementation counts {@link #getExpireTime()} from now, implementations should return precomputed deadline instead.
+     *
+     * @return Expiration time in milliseconds since epoch, or zero
+     */
+    default long getExpirationTime() {
+        Pair<Long, TimeUnit> expireTime = getExpireTime();
+        long expireAfterMillis = expireTime.getRight().toMillis(expireTime.getLeft());
+
+        if (expireAfterMillis == 0) {
+            return 0;
+        }
+
+        return System.currentTimeMillis() + expireAfterMillis;
+    }
+
+    /**
+     * Returns IDs of all components (buttons, select menus, select option values, modals) owned by this {@link Interactable}.
+     * {@link InteractiveListener} uses them to route events only to their owning {@link Interactable}.<br>
+     * Returning null means the IDs are unknown and this {@link Interactable} will receive every interaction event.
+     *
+     * @return Nullable {@link Collection} of component IDs
+     */
+    default Collection<String> getComponentIds() {
+        return null;
+    }
+
+    /**
+     * Returns ID of the shard which receives interactions of this {@link Interactable}. {@link InteractableRegistry} keeps
+     * {@link Interactable}s of each shard in separate partition.<br>
+     * {@link InteractableRegistry#DIRECT_MESSAGES_SHARD_ID} is used for direct messages and when the shard is unknown. Must not change while
+     * this {@link Interactable} is registered.
+     *
+     * @return Shard ID
+     */
+    default int getShardId() {
+        return InteractableRegistry.DIRECT_MESSAGES_SHARD_ID;
+    }
 }
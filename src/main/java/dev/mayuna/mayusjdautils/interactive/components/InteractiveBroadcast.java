@@ -0,0 +1,316 @@
+package dev.mayuna.mayusjdautils.interactive.components;
+
+import dev.mayuna.mayusjdautils.interactive.ComponentDisableScheduler;
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.managed.ManagedGuildChannel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Sends one {@link InteractiveMessage} to many channels. The components and handlers are built once and every sent copy is routed to the
+ * same {@link InteractiveMessage}, so memory does not grow with number of channels - only {@link Copy} with IDs of every sent message is
+ * kept, until the {@link InteractiveMessage} expires or the broadcast is removed by {@link #remove()}. When the {@link InteractiveMessage} has
+ * {@link InteractiveMessage#disableOnExpire(boolean)} enabled, components of all copies are disabled on expire.<br>
+ * Messages are sent at most {@link #getMaxMessagesPerSecond()} per second, so broadcast to thousands of channels does not exhaust the global
+ * rate limit. The limit is shared by all broadcasts - messages of concurrent broadcasts wait for each other, so together they are not sent
+ * faster than the highest limit of them.
+ * <pre>{@code
+ * InteractiveBroadcast broadcast = InteractiveBroadcast.of(InteractiveMessage.create(messageEditBuilder));
+ * broadcast.addInteraction(Interaction.asButton(ButtonStyle.PRIMARY, "Vote"), (event, copy) -> {
+ *     // copy tells which channel's message was clicked
+ * });
+ * broadcast.send(channels).thenAccept(result -> ...);
+ * }</pre>
+ */
+public final class InteractiveBroadcast {
+
+    private static final ScheduledExecutorService SENDER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Interactive-Broadcast-Sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Object SEND_SLOT_LOCK = new Object();
+    private static long nextSendSlotNanos; // Guarded by SEND_SLOT_LOCK, time at which the next message of any broadcast can be sent
+
+    private final @Getter InteractiveMessage interactiveMessage;
+    private final Map<Long, Copy> copies = new ConcurrentHashMap<>(); // Message ID -> copy
+    private final Map<Long, Integer> sendingCopies = new ConcurrentHashMap<>(); // Channel ID -> index of copy which is being sent
+    private volatile JDA jda; // Set by the first send, used to find channels of copies
+    private volatile List<ActionRow> disabledActionRows = Collections.emptyList();
+
+    // Settings
+    private @Getter @Setter int maxMessagesPerSecond = 10;
+
+    private InteractiveBroadcast(InteractiveMessage interactiveMessage) {
+        this.interactiveMessage = interactiveMessage;
+    }
+
+    /**
+     * Creates {@link InteractiveBroadcast} of specified {@link InteractiveMessage}. Its interactions, access policy and expiration are shared
+     * by all copies. The {@link InteractiveMessage} should not be sent by other means.
+     *
+     * @param interactiveMessage Non-null {@link InteractiveMessage}
+     *
+     * @return Non-null {@link InteractiveBroadcast}
+     */
+    public static InteractiveBroadcast of(@NonNull InteractiveMessage interactiveMessage) {
+        return new InteractiveBroadcast(interactiveMessage);
+    }
+
+    /**
+     * Adds {@link Interaction} with handler which receives the clicked {@link Copy}
+     *
+     * @param interaction  Non-null {@link Interaction}
+     * @param onInteracted Non-null handler, the {@link Copy} is null if the message was not sent by this broadcast, see
+     *                     {@link #getCopy(GroupedInteractionEvent)}
+     *
+     * @return {@link InteractiveBroadcast}
+     */
+    public InteractiveBroadcast addInteraction(@NonNull Interaction interaction, @NonNull BiConsumer<GroupedInteractionEvent, Copy> onInteracted) {
+        interactiveMessage.addInteraction(interaction, event -> onInteracted.accept(event, getCopy(event)));
+        return this;
+    }
+
+    /**
+     * Returns {@link Copy} of which component was interacted with. Works even if the interaction arrives before JDA reports the copy as sent.
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     *
+     * @return Nullable {@link Copy}, null if the message was not sent by this broadcast or if the broadcast was already expired or removed
+     */
+    public Copy getCopy(@NonNull GroupedInteractionEvent interactionEvent) {
+        Copy copy = copies.get(interactionEvent.getInteractedMessageId());
+
+        if (copy != null) {
+            return copy;
+        }
+
+        // Clicked before the send callback ran
+        Message message = interactionEvent.getInteractedMessage();
+        Integer copyIndex = message != null ? sendingCopies.get(message.getChannelIdLong()) : null;
+
+        if (copyIndex == null) {
+            return null;
+        }
+
+        Copy newCopy = new Copy(copyIndex, message.getChannelIdLong(), message.getIdLong());
+        copy = copies.putIfAbsent(message.getIdLong(), newCopy);
+        return copy != null ? copy : newCopy;
+    }
+
+    /**
+     * Returns all sent copies
+     *
+     * @return Non-null {@link Collection} of {@link Copy}
+     */
+    public Collection<Copy> getCopies() {
+        return Collections.unmodifiableCollection(copies.values());
+    }
+
+    /**
+     * Removes the {@link InteractiveMessage} from its registry, so no copy can be interacted with anymore, and forgets all copies
+     */
+    public void remove() {
+        interactiveMessage.getRegistry().remove(interactiveMessage);
+        copies.clear();
+        sendingCopies.clear();
+    }
+
+    /**
+     * Called when the {@link InteractiveMessage} expires
+     *
+     * @param componentDisableScheduler Nullable {@link ComponentDisableScheduler}, if non-null, components of all copies are disabled
+     */
+    void onExpire(ComponentDisableScheduler componentDisableScheduler) {
+        if (componentDisableScheduler != null) {
+            List<ActionRow> disabledActionRows = this.disabledActionRows;
+
+            for (Copy copy : copies.values()) {
+                MessageChannel messageChannel = getMessageChannel(copy.channelId);
+
+                // Channel is not cached anymore, so it was most likely deleted
+                if (messageChannel != null) {
+                    componentDisableScheduler.schedule(messageChannel, copy.messageId, disabledActionRows);
+                }
+            }
+        }
+
+        copies.clear();
+        sendingCopies.clear();
+    }
+
+    /**
+     * Sends the message to specified {@link ManagedGuildChannel}s. Channels which are not message channels are reported as failed.
+     *
+     * @param managedGuildChannels Non-null {@link Collection} of {@link ManagedGuildChannel}s with updated entries
+     *
+     * @return Non-null {@link CompletableFuture} of {@link Result}, completed after all messages are sent or failed
+     */
+    public CompletableFuture<Result> sendToManaged(@NonNull Collection<ManagedGuildChannel> managedGuildChannels) {
+        List<MessageChannel> messageChannels = new ArrayList<>(managedGuildChannels.size());
+        Map<Long, Throwable> failures = new ConcurrentHashMap<>();
+
+        for (ManagedGuildChannel managedGuildChannel : managedGuildChannels) {
+            GuildChannel guildChannel = managedGuildChannel.getGuildChannel();
+
+            if (guildChannel instanceof MessageChannel) {
+                messageChannels.add((MessageChannel) guildChannel);
+            } else {
+                failures.put(managedGuildChannel.getRawGuildChannelId(), new IllegalArgumentException("Channel is not a message channel!"));
+            }
+        }
+
+        return sendEx(messageChannels, failures);
+    }
+
+    /**
+     * Sends the message to specified channels
+     *
+     * @param messageChannels Non-null {@link Collection} of {@link MessageChannel}s
+     *
+     * @return Non-null {@link CompletableFuture} of {@link Result}, completed after all messages are sent or failed
+     */
+    public CompletableFuture<Result> send(@NonNull Collection<? extends MessageChannel> messageChannels) {
+        return sendEx(new ArrayList<>(messageChannels), new ConcurrentHashMap<>());
+    }
+
+    private CompletableFuture<Result> sendEx(List<MessageChannel> messageChannels, Map<Long, Throwable> failures) {
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        List<Copy> sentCopies = Collections.synchronizedList(new ArrayList<>(messageChannels.size()));
+
+        if (messageChannels.isEmpty()) {
+            future.complete(new Result(sentCopies, failures));
+            return future;
+        }
+
+        jda = messageChannels.get(0).getJDA();
+        MessageCreateData messageCreateData = interactiveMessage.prepareBroadcast(jda, this);
+        disabledActionRows = getDisabledActionRows(messageCreateData);
+        AtomicInteger remaining = new AtomicInteger(messageChannels.size());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxMessagesPerSecond);
+
+        Runnable onDone = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(new Result(sentCopies, failures));
+            }
+        };
+
+        for (int index = 0; index < messageChannels.size(); index++) {
+            MessageChannel messageChannel = messageChannels.get(index);
+            int copyIndex = index;
+
+            SENDER.schedule(() -> {
+                try {
+                    sendingCopies.put(messageChannel.getIdLong(), copyIndex);
+                    messageChannel.sendMessage(messageCreateData).queue(message -> {
+                        Copy copy = new Copy(copyIndex, message.getChannelIdLong(), message.getIdLong());
+                        Copy interactedCopy = copies.putIfAbsent(message.getIdLong(), copy);
+                        sendingCopies.remove(messageChannel.getIdLong(), copyIndex);
+                        sentCopies.add(interactedCopy != null ? interactedCopy : copy);
+                        onDone.run();
+                    }, throwable -> {
+                        sendingCopies.remove(messageChannel.getIdLong(), copyIndex);
+                        failures.put(messageChannel.getIdLong(), throwable);
+                        onDone.run();
+                    });
+                } catch (Exception exception) {
+                    // Missing permissions and similar
+                    sendingCopies.remove(messageChannel.getIdLong(), copyIndex);
+                    failures.put(messageChannel.getIdLong(), exception);
+                    onDone.run();
+                }
+            }, reserveSendSlot(intervalNanos), TimeUnit.NANOSECONDS);
+        }
+
+        return future;
+    }
+
+    /**
+     * Reserves time slot for one message in the rate limit shared by all broadcasts
+     *
+     * @return Delay in nanoseconds after which the message can be sent
+     */
+    private static long reserveSendSlot(long intervalNanos) {
+        synchronized (SEND_SLOT_LOCK) {
+            long now = System.nanoTime();
+            long sendSlotNanos = Math.max(now, nextSendSlotNanos);
+            nextSendSlotNanos = sendSlotNanos + intervalNanos;
+            return sendSlotNanos - now;
+        }
+    }
+
+    private static List<ActionRow> getDisabledActionRows(MessageCreateData messageCreateData) {
+        List<ActionRow> disabledActionRows = new ArrayList<>();
+
+        for (LayoutComponent component : messageCreateData.getComponents()) {
+            if (component instanceof ActionRow) {
+                disabledActionRows.add(((ActionRow) component).asDisabled());
+            }
+        }
+
+        return disabledActionRows;
+    }
+
+    private MessageChannel getMessageChannel(long channelId) {
+        JDA jda = this.jda;
+
+        if (jda == null) {
+            return null;
+        }
+
+        // Copies may be in channels of any shard
+        ShardManager shardManager = jda.getShardManager();
+        MessageChannel messageChannel = shardManager != null
+                                        ? shardManager.getChannelById(MessageChannel.class, channelId)
+                                        : jda.getChannelById(MessageChannel.class, channelId);
+
+        return messageChannel != null ? messageChannel : jda.getPrivateChannelById(channelId);
+    }
+
+    /**
+     * One sent copy of the broadcast message. Only IDs are kept, so copies of large broadcasts do not hold the sent {@link Message}s.
+     */
+    @Getter
+    public static final class Copy {
+
+        private final int index;
+        private final long channelId;
+        private final long messageId;
+
+        private Copy(int index, long channelId, long messageId) {
+            this.index = index;
+            this.channelId = channelId;
+            this.messageId = messageId;
+        }
+    }
+
+    /**
+     * Result of sending the broadcast
+     */
+    @Getter
+    public static final class Result {
+
+        private final List<Copy> copies;
+        private final Map<Long, Throwable> failures; // Channel ID -> failure
+
+        private Result(List<Copy> copies, Map<Long, Throwable> failures) {
+            this.copies = copies;
+            this.failures = failures;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package dev.mayuna.mayusjdautils.interactive.components;
 
+import com.google.gson.JsonObject;
 import dev.mayuna.mayusjdautils.exceptions.CannotAddInteractionException;
+import dev.mayuna.mayusjdautils.interactive.AccessPolicy;
+import dev.mayuna.mayusjdautils.interactive.ComponentDisableScheduler;
+import dev.mayuna.mayusjdautils.interactive.ComponentIds;
 import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
 import dev.mayuna.mayusjdautils.interactive.Interaction;
 import dev.mayuna.mayusjdautils.interactive.InteractionType;
 import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import dev.mayuna.mayusjdautils.interactive.MessageEditCoalescer;
+import dev.mayuna.mayusjdautils.interactive.persistence.InteractableFactory;
+import dev.mayuna.mayusjdautils.interactive.persistence.InteractableStore;
+import dev.mayuna.mayusjdautils.interactive.persistence.PersistentInteractable;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
@@ -23,36 +33,32 @@ import net.dv8tion.jda.api.interactions.components.selections.SelectMenu;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 import net.dv8tion.jda.api.requests.RestAction;
-import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
-import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
-import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
-import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
 import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
-import net.dv8tion.jda.api.utils.messages.MessageEditData;
-import net.dv8tion.jda.internal.utils.tuple.ImmutablePair;
-import net.dv8tion.jda.internal.utils.tuple.MutablePair;
 import net.dv8tion.jda.internal.utils.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
-public final class InteractiveMessage implements Interactable {
+public final class InteractiveMessage implements PersistentInteractable {
 
     // Interactions
-    private final @Getter Map<Interaction, Consumer<GroupedInteractionEvent>> interactions = new LinkedHashMap<>();
+    private final Map<Interaction, Consumer<GroupedInteractionEvent>> interactions = new LinkedHashMap<>();
 
     // Settings
-    private final List<Long> whitelistedUsers = new LinkedList<>();
+    private @Getter AccessPolicy accessPolicy = new AccessPolicy();
 
     // Other
-    private final long createdTime = System.currentTimeMillis();
-    private final String selectMenuId = UUID.randomUUID().toString();
+    private final MessageSupport support = new MessageSupport(this, this::getMessageEditBuilder, this::buildActionRows);
+    private @Getter String factoryName;
+    private @Getter JsonObject persistentData;
+    private final String selectMenuId = ComponentIds.generate();
     private @Getter @Setter MessageEditBuilder messageEditBuilder;
-    private @Getter @Setter SelectMenu.Builder<?, ?> selectMenuBuilder;
-    private @Getter Pair<Long, TimeUnit> expireAfter = new MutablePair<>(5L, TimeUnit.MINUTES);
-    private @Getter Runnable expiredRunnable;
+    private SelectMenu.Builder<?, ?> selectMenuBuilder;
+    private volatile InteractiveBroadcast broadcast; // Nullable, set when sent by InteractiveBroadcast
 
     private @Getter Consumer<StringSelectInteractionEvent> stringSelectInteractionEventConsumer = event -> {
     };
@@ -134,7 +140,7 @@ public final class InteractiveMessage implements Interactable {
      * @return {@link InteractiveMessage}
      */
     public static InteractiveMessage createStringSelectMenu(@NonNull MessageEditBuilder messageEditBuilder, @NonNull String selectMenuPlaceholder) {
-        StringSelectMenu.Builder selectMenuBuilder = StringSelectMenu.create(UUID.randomUUID().toString()); // The ID will be set in the constructor
+        StringSelectMenu.Builder selectMenuBuilder = StringSelectMenu.create(ComponentIds.generate()); // The ID will be set in the constructor
         selectMenuBuilder.setPlaceholder(selectMenuPlaceholder);
         return new InteractiveMessage(messageEditBuilder, selectMenuBuilder);
     }
@@ -155,9 +161,9 @@ public final class InteractiveMessage implements Interactable {
 
         // The ID will be set in the constructor
         if (selectTargets != null) {
-            selectMenuBuilder = EntitySelectMenu.create(UUID.randomUUID().toString(), EnumSet.of(selectTarget, selectTargets));
+            selectMenuBuilder = EntitySelectMenu.create(ComponentIds.generate(), EnumSet.of(selectTarget, selectTargets));
         } else {
-            selectMenuBuilder = EntitySelectMenu.create(UUID.randomUUID().toString(), selectTarget);
+            selectMenuBuilder = EntitySelectMenu.create(ComponentIds.generate(), selectTarget);
         }
 
         selectMenuBuilder.setPlaceholder(selectMenuPlaceholder);
@@ -195,6 +201,8 @@ public final class InteractiveMessage implements Interactable {
         }
 
         interactions.put(interaction, onInteracted);
+        support.componentsChanged();
+        support.getRegistry().index(interaction.getId(), this);
         return this;
     }
 
@@ -203,13 +211,66 @@ public final class InteractiveMessage implements Interactable {
         });
     }
 
+    /**
+     * Removes {@link Interaction} from this message. If the message was already sent, you need to edit it for the change to be visible.
+     *
+     * @param interaction Non-null {@link Interaction}
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage removeInteraction(@NonNull Interaction interaction) {
+        if (interactions.remove(interaction) != null) {
+            support.componentsChanged();
+            support.getRegistry().unindex(interaction.getId(), this);
+        }
+
+        return this;
+    }
+
     public InteractiveMessage addUserToWhitelist(User user) {
-        whitelistedUsers.add(user.getIdLong());
+        accessPolicy.allowUsers(user.getIdLong());
         return this;
     }
 
     public InteractiveMessage removeUserFromWhitelist(User user) {
-        whitelistedUsers.remove(user.getIdLong());
+        accessPolicy.disallowUsers(user.getIdLong());
+        return this;
+    }
+
+    /**
+     * Adds specified users to the whitelist at once
+     *
+     * @param users Non-null {@link Collection} of {@link User}s
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage addUsersToWhitelist(@NonNull Collection<? extends User> users) {
+        accessPolicy.allowUsers(users);
+        return this;
+    }
+
+    /**
+     * Removes specified users from the whitelist at once
+     *
+     * @param users Non-null {@link Collection} of {@link User}s
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage removeUsersFromWhitelist(@NonNull Collection<? extends User> users) {
+        accessPolicy.disallowUsers(users);
+        return this;
+    }
+
+    /**
+     * Sets {@link AccessPolicy} which determines who can interact with this {@link InteractiveMessage}. One policy can be shared by many messages,
+     * whitelist methods of this message then change the shared policy.
+     *
+     * @param accessPolicy Non-null {@link AccessPolicy}
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage setAccessPolicy(@NonNull AccessPolicy accessPolicy) {
+        this.accessPolicy = accessPolicy;
         return this;
     }
 
@@ -235,18 +296,19 @@ public final class InteractiveMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> sendMessage(@NonNull MessageChannelUnion messageChannelUnion) {
-        return sendEx(messageChannelUnion, null, false, false, null, null);
+        return support.send(messageChannelUnion, null, false, false, null, null);
     }
 
     /**
-     * Edits specified {@link Message} with the interactive message
+     * Edits specified {@link Message} with the interactive message. If the message was last sent or edited by this {@link InteractiveMessage} with
+     * the same content, embeds and components, no request is made and {@link SkippedEditAction} with the message is returned.
      *
      * @param message Non-null {@link Message}
      *
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> editMessage(@NonNull Message message) {
-        return sendEx(null, null, false, false, message, null);
+        return support.send(null, null, false, false, message, null);
     }
 
     /**
@@ -257,7 +319,7 @@ public final class InteractiveMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> replyTo(@NonNull Message message) {
-        return sendEx(null, null, false, false, null, message);
+        return support.send(null, null, false, false, null, message);
     }
 
     /**
@@ -268,7 +330,7 @@ public final class InteractiveMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> sendMessage(@NonNull InteractionHook interactionHook) {
-        return sendEx(null, interactionHook, false, false, null, null);
+        return support.send(null, interactionHook, false, false, null, null);
     }
 
     /**
@@ -280,22 +342,24 @@ public final class InteractiveMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> sendMessage(@NonNull InteractionHook interactionHook, boolean ephemeral) {
-        return sendEx(null, interactionHook.setEphemeral(ephemeral), ephemeral, false, null, null);
+        return support.send(null, interactionHook.setEphemeral(ephemeral), ephemeral, false, null, null);
     }
 
     /**
-     * Edits the original message of the specified {@link InteractionHook}
+     * Edits the original message of the specified {@link InteractionHook}. If the edit would not change the message, no request is made and
+     * {@link SkippedEditAction} is returned, see {@link #editMessage(Message)}.
      *
      * @param interactionHook Non-null {@link InteractionHook}
      *
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> editOriginal(@NonNull InteractionHook interactionHook) {
-        return sendEx(null, interactionHook, false, true, null, null);
+        return support.send(null, interactionHook, false, true, null, null);
     }
 
     /**
-     * Edits the original message of the specified {@link InteractionHook} with specified ephemeral
+     * Edits the original message of the specified {@link InteractionHook} with specified ephemeral. If the edit would not change the message,
+     * no request is made and {@link SkippedEditAction} is returned, see {@link #editMessage(Message)}.
      *
      * @param interactionHook Non-null {@link InteractionHook}
      * @param ephemeral       Ephemeral
@@ -303,10 +367,48 @@ public final class InteractiveMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> editOriginal(@NonNull InteractionHook interactionHook, boolean ephemeral) {
-        return sendEx(null, interactionHook.setEphemeral(ephemeral), ephemeral, true, null, null);
+        return support.send(null, interactionHook.setEphemeral(ephemeral), ephemeral, true, null, null);
+    }
+
+    /**
+     * Edits specified {@link Message} with the interactive message, coalescing edits of the same message (see {@link MessageEditCoalescer}).
+     * Edits submitted within the coalescing window are replaced by the latest one, which is built from the state of this
+     * {@link InteractiveMessage} at the moment it is sent.
+     *
+     * @param message Non-null {@link Message}
+     *
+     * @return Non-null {@link CompletableFuture} of {@link Message}
+     */
+    public CompletableFuture<Message> editMessageCoalesced(@NonNull Message message) {
+        return support.editMessageCoalesced(message);
+    }
+
+    /**
+     * Edits the original message of the specified {@link InteractionHook}, coalescing edits of the same message (see
+     * {@link #editMessageCoalesced(Message)}). Edits made through hooks of different component interactions on the same message are
+     * coalesced too - the interactions still have to be acknowledged, for example by {@link GroupedInteractionEvent#deferEdit()}.
+     *
+     * @param interactionHook Non-null {@link InteractionHook}
+     *
+     * @return Non-null {@link CompletableFuture} of {@link Message}
+     */
+    public CompletableFuture<Message> editOriginalCoalesced(@NonNull InteractionHook interactionHook) {
+        return support.editOriginalCoalesced(interactionHook);
+    }
+
+    /**
+     * Registers this {@link InteractiveMessage} for {@link InteractiveBroadcast} and builds the message sent to every channel
+     */
+    MessageCreateData prepareBroadcast(JDA jda, InteractiveBroadcast broadcast) {
+        this.broadcast = broadcast;
+
+        // Copies may be in any shard - the direct messages partition is searched for events of every shard
+        support.register(jda, false);
+        PayloadCache.Payload payload = support.getPayload();
+        return MessageCreateBuilder.from(payload.getMessageCreateData()).setComponents(payload.getActionRows()).build();
     }
 
-    private RestAction<Message> sendEx(MessageChannelUnion messageChannelUnion, InteractionHook interactionHook, boolean ephemeral, boolean editOriginal, Message messageToEdit, Message messageToReplyTo) {
+    private List<ActionRow> buildActionRows() {
         List<Button> buttons = new LinkedList<>();
         List<SelectOption> selectOptions = new LinkedList<>();
 
@@ -318,27 +420,6 @@ public final class InteractiveMessage implements Interactable {
             }
         }));
 
-        MessageCreateAction createMessageAction = null; // Channel#sendMessage() / Channel#sendMessage()
-        MessageEditAction editMessageAction = null; // Channel#sendMessage() / Channel#editMessage()
-        WebhookMessageCreateAction<Message> hookMessageAction = null; // InteractionHook#sendMessage()
-        WebhookMessageEditAction<Message> hookMessageUpdateAction = null; // InteractionHook#editOriginal()
-
-        MessageEditData messageEditData = messageEditBuilder.build();
-
-        if (messageChannelUnion != null) {
-            createMessageAction = messageChannelUnion.sendMessage(MessageCreateBuilder.fromEditData(messageEditData).build());
-        } else if (interactionHook != null) {
-            if (editOriginal) {
-                hookMessageUpdateAction = interactionHook.setEphemeral(ephemeral).editOriginal(messageEditData);
-            } else {
-                hookMessageAction = interactionHook.setEphemeral(ephemeral).sendMessage(MessageCreateBuilder.fromEditData(messageEditData).build());
-            }
-        } else if (messageToEdit != null) {
-            editMessageAction = messageToEdit.editMessage(messageEditData);
-        } else {
-            createMessageAction = messageToReplyTo.reply(MessageCreateBuilder.fromEditData(messageEditData).build());
-        }
-
         List<ActionRow> actionRows = new LinkedList<>();
 
         if (!buttons.isEmpty()) {
@@ -360,7 +441,23 @@ public final class InteractiveMessage implements Interactable {
                 if (!selectOptions.isEmpty()) {
 
                     if (selectMenuBuilder instanceof StringSelectMenu.Builder) {
-                        ((StringSelectMenu.Builder) selectMenuBuilder).addOptions(selectOptions);
+                        StringSelectMenu.Builder stringSelectMenuBuilder = (StringSelectMenu.Builder) selectMenuBuilder;
+                        List<SelectOption> builderOptions = new ArrayList<>(stringSelectMenuBuilder.getOptions());
+                        Set<String> selectOptionValues = new HashSet<>();
+                        selectOptions.forEach(selectOption -> selectOptionValues.add(selectOption.getValue()));
+
+                        // Options of interactions are added only for the build, the builder is left as it was set
+                        stringSelectMenuBuilder.getOptions().removeIf(selectOption -> selectOptionValues.contains(selectOption.getValue()));
+                        stringSelectMenuBuilder.addOptions(selectOptions);
+
+                        try {
+                            actionRows.add(ActionRow.of(stringSelectMenuBuilder.build()));
+                        } finally {
+                            stringSelectMenuBuilder.getOptions().clear();
+                            stringSelectMenuBuilder.getOptions().addAll(builderOptions);
+                        }
+
+                        return actionRows;
                     }
                 }
 
@@ -368,41 +465,168 @@ public final class InteractiveMessage implements Interactable {
             }
         }
 
-        RestAction<Message> restAction;
-
-        if (createMessageAction != null) {
-            restAction = createMessageAction.setComponents(actionRows);
-        } else if (editMessageAction != null) {
-            restAction = editMessageAction.setComponents(actionRows);
-        } else {
-            if (hookMessageUpdateAction != null) {
-                restAction = hookMessageUpdateAction.setComponents(actionRows);
-            } else {
-                restAction = hookMessageAction.setComponents(actionRows);
-            }
-        }
-
-        InteractiveListener.addInteractable(this);
-
-        return restAction;
+        return actionRows;
     }
 
     ////////////
     // Others //
     ////////////
 
+    /**
+     * Binds this {@link InteractiveMessage} to specified {@link InteractableRegistry}. By default, it is registered into registry of the
+     * {@link InteractiveListener} registered in {@link JDA} through which it is sent. Takes effect when it is sent next time.
+     *
+     * @param registry Non-null {@link InteractableRegistry}
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage bindTo(@NonNull InteractableRegistry registry) {
+        support.bindTo(registry);
+        return this;
+    }
+
+    /**
+     * Binds this {@link InteractiveMessage} to registry of specified {@link InteractiveListener}, see {@link #bindTo(InteractableRegistry)}
+     *
+     * @param interactiveListener Non-null {@link InteractiveListener}
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage bindTo(@NonNull InteractiveListener interactiveListener) {
+        return bindTo(interactiveListener.getRegistry());
+    }
+
+    /**
+     * Marks this {@link InteractiveMessage} to be persisted in {@link InteractableStore} of its registry, so it can be restored after restart by
+     * {@link InteractableFactory} registered under specified name. Takes effect when it is sent next time.<br>
+     * Interactions are not persisted - the factory has to create {@link Interactable} which handles them by component IDs and the data.
+     *
+     * @param factoryName Non-null factory name
+     * @param data        Nullable data passed to the factory
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage persistAs(@NonNull String factoryName, JsonObject data) {
+        this.factoryName = factoryName;
+        this.persistentData = data;
+        return this;
+    }
+
     public void expireAfter(long number, @NonNull TimeUnit timeUnit) {
-        expireAfter = new ImmutablePair<>(number, timeUnit);
+        support.expireAfter(number, timeUnit);
+    }
+
+    /**
+     * Expires this {@link InteractiveMessage} after specified time without any interaction. Every interaction processed by this
+     * {@link InteractiveMessage} extends the deadline.
+     *
+     * @param idleTime Positive idle time
+     * @param timeUnit Non-null {@link TimeUnit}
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage expireAfterIdle(long idleTime, @NonNull TimeUnit timeUnit) {
+        return expireAfterIdle(idleTime, 0, timeUnit);
+    }
+
+    /**
+     * Expires this {@link InteractiveMessage} after specified time without any interaction, but no later than after specified maximum lifetime
+     * since its creation. Every interaction processed by this {@link InteractiveMessage} extends the deadline.
+     *
+     * @param idleTime    Positive idle time
+     * @param maxLifetime Maximum lifetime, zero means unlimited
+     * @param timeUnit    Non-null {@link TimeUnit}
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage expireAfterIdle(long idleTime, long maxLifetime, @NonNull TimeUnit timeUnit) {
+        support.expireAfterIdle(idleTime, maxLifetime, timeUnit);
+        return this;
     }
 
     public void whenExpired(@NonNull Runnable expiredRunnable) {
-        this.expiredRunnable = expiredRunnable;
+        support.whenExpired(expiredRunnable);
+    }
+
+    /**
+     * Disables all components of the sent message (and of copies sent by {@link InteractiveBroadcast}) when this {@link InteractiveMessage}
+     * expires. Edits are sent in background through {@link ComponentDisableScheduler} of the registry, which spreads them over time, so many
+     * messages expiring at once do not exhaust rate limits. Must be enabled before the message is sent.
+     *
+     * @param disableOnExpire True to disable components on expire
+     *
+     * @return {@link InteractiveMessage}
+     */
+    public InteractiveMessage disableOnExpire(boolean disableOnExpire) {
+        support.setDisableOnExpire(disableOnExpire);
+        return this;
     }
 
     /////////////////////
     // Utility methods //
     /////////////////////
 
+    public InteractableRegistry getRegistry() {
+        return support.getRegistry();
+    }
+
+    public Pair<Long, TimeUnit> getExpireAfter() {
+        return support.getExpireAfter();
+    }
+
+    public Runnable getExpiredRunnable() {
+        return support.getExpiredRunnable();
+    }
+
+    public boolean isDisableOnExpire() {
+        return support.isDisableOnExpire();
+    }
+
+    /**
+     * Returns interactions of this message. Use {@link #addInteraction(Interaction, Consumer)} and {@link #removeInteraction(Interaction)}
+     * to change them.
+     *
+     * @return Non-null unmodifiable {@link Map} of {@link Interaction}s
+     */
+    public Map<Interaction, Consumer<GroupedInteractionEvent>> getInteractions() {
+        return Collections.unmodifiableMap(interactions);
+    }
+
+    /**
+     * Returns builder of the select menu. Changes of the builder are visible only if they are made through
+     * {@link #editSelectMenuBuilder(Consumer)}, or if the builder is set again by {@link #setSelectMenuBuilder(SelectMenu.Builder)} -
+     * otherwise the message may be sent with previously built components.
+     *
+     * @return Nullable {@link SelectMenu.Builder}
+     */
+    public SelectMenu.Builder<?, ?> getSelectMenuBuilder() {
+        return selectMenuBuilder;
+    }
+
+    /**
+     * Modifies builder of the select menu. Changes are visible once the message is sent or edited again.
+     *
+     * @param editor Non-null {@link Consumer} modifying the {@link SelectMenu.Builder}, it is not called if the message has no select menu
+     */
+    public void editSelectMenuBuilder(@NonNull Consumer<SelectMenu.Builder<?, ?>> editor) {
+        if (selectMenuBuilder == null) {
+            return;
+        }
+
+        editor.accept(selectMenuBuilder);
+        support.componentsChanged();
+    }
+
+    /**
+     * Sets builder of the select menu
+     *
+     * @param selectMenuBuilder Nullable {@link SelectMenu.Builder}
+     */
+    public void setSelectMenuBuilder(SelectMenu.Builder<?, ?> selectMenuBuilder) {
+        this.selectMenuBuilder = selectMenuBuilder;
+        support.componentsChanged();
+    }
+
     public Map<Interaction, Consumer<GroupedInteractionEvent>> getInteractionByType(InteractionType interactionType) {
         Map<Interaction, Consumer<GroupedInteractionEvent>> interactions = new HashMap<>();
 
@@ -464,10 +688,12 @@ public final class InteractiveMessage implements Interactable {
         User user = event.getUser();
 
         // Ignore if user is null or cannot interact
-        if (user == null || !canInteract(user)) {
+        if (user == null || !accessPolicy.canInteract(user, event.getMember())) {
             return;
         }
 
+        support.onInteraction();
+
         // Entity select menu
         if (event.isEntitySelectMenuInteraction()) {
             EntitySelectInteractionEvent entitySelectInteractionEvent = event.getEntitySelectInteractionEvent();
@@ -507,35 +733,54 @@ public final class InteractiveMessage implements Interactable {
 
     @Override
     public boolean canInteract(@NonNull User user) {
-        if (whitelistedUsers.isEmpty()) {
-            return true;
+        return accessPolicy.canInteract(user);
+    }
+
+    @Override
+    public Collection<String> getComponentIds() {
+        List<String> componentIds = new ArrayList<>(interactions.size() + 1);
+
+        if (selectMenuBuilder != null) {
+            componentIds.add(selectMenuId);
+        }
+
+        for (Interaction interaction : interactions.keySet()) {
+            componentIds.add(interaction.getId());
         }
 
-        return whitelistedUsers.contains(user.getIdLong());
+        return componentIds;
+    }
+
+    @Override
+    public int getShardId() {
+        return support.getShardId();
     }
 
     @Override
     public Pair<Long, TimeUnit> getExpireTime() {
-        return expireAfter;
+        return support.getExpireAfter();
     }
 
     @Override
     public boolean isExpired() {
-        long expireAfterMillis = expireAfter.getRight().toMillis(expireAfter.getLeft());
-
-        if (expireAfterMillis == 0) {
-            return false;
-        }
+        return support.isExpired();
+    }
 
-        return (createdTime + expireAfterMillis) < System.currentTimeMillis();
+    @Override
+    public long getExpirationTime() {
+        return support.getExpirationTime();
     }
 
     @Override
     public void onExpire() {
-        if (expiredRunnable != null) {
-            expiredRunnable.run();
+        support.onExpire();
+
+        InteractiveBroadcast broadcast = this.broadcast;
+
+        if (broadcast != null) {
+            broadcast.onExpire(support.isDisableOnExpire() ? support.getRegistry().getComponentDisableScheduler() : null);
         }
 
-        Interactable.super.onExpire();
+        PersistentInteractable.super.onExpire();
     }
 }
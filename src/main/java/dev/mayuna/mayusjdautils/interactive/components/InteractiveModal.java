@@ -1,10 +1,12 @@
 package dev.mayuna.mayusjdautils.interactive.components;
 
+import dev.mayuna.mayusjdautils.interactive.ComponentIds;
 import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
 import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
+import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
@@ -12,11 +14,10 @@ import net.dv8tion.jda.api.interactions.callbacks.IModalCallback;
 import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 import net.dv8tion.jda.api.requests.restaction.interactions.ModalCallbackAction;
-import net.dv8tion.jda.internal.utils.tuple.ImmutablePair;
-import net.dv8tion.jda.internal.utils.tuple.MutablePair;
 import net.dv8tion.jda.internal.utils.tuple.Pair;
 
-import java.util.UUID;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -28,12 +29,10 @@ public final class InteractiveModal implements Interactable {
     // Settings
     private final @Getter Modal.Builder modalBuilder;
     // Other
-    private final long createdTime = System.currentTimeMillis();
-    private @Getter Pair<Long, TimeUnit> expireAfter = new MutablePair<>(5L, TimeUnit.MINUTES);
-    private @Getter Runnable expiredRunnable;
+    private final ComponentSupport support = new ComponentSupport(this);
 
     private InteractiveModal(String modalTitle, Consumer<Modal.Builder> modalBuilder, Consumer<ModalInteractionEvent> modalClosedConsumer) {
-        this.modalBuilder = Modal.create(UUID.randomUUID().toString(), modalTitle);
+        this.modalBuilder = Modal.create(ComponentIds.generate(), modalTitle);
         modalBuilder.accept(this.modalBuilder);
         this.modalClosedConsumer = modalClosedConsumer;
     }
@@ -51,7 +50,7 @@ public final class InteractiveModal implements Interactable {
 
     /**
      * Creates new {@link InteractiveModal} with {@link Modal.Builder} and {@link Consumer} with {@link ModalInteractionEvent} which is called when
-     * the modal window is closed<br>The {@link Modal.Builder} will have random UUID as ID upon replying - your ID will be replaced by it.
+     * the modal window is closed<br>The {@link Modal.Builder} will have random ID (see {@link ComponentIds}) upon replying - your ID will be replaced by it.
      *
      * @param modalBuilder  Non-null {@link Modal.Builder}
      * @param onModalClosed Non-null {@link Consumer} with {@link ModalInteractionEvent}
@@ -88,8 +87,9 @@ public final class InteractiveModal implements Interactable {
      * @return Non-null {@link ModalCallbackAction}
      */
     public ModalCallbackAction replyModal(@NonNull IModalCallback modalCallback) {
-        modalBuilder.setId(UUID.randomUUID().toString());
-        InteractiveListener.addInteractable(this);
+        support.getRegistry().unindex(modalBuilder.getId(), this);
+        modalBuilder.setId(ComponentIds.generate());
+        support.register(modalCallback.getJDA(), modalCallback.isFromGuild());
         return modalCallback.replyModal(modalBuilder.build());
     }
 
@@ -97,12 +97,76 @@ public final class InteractiveModal implements Interactable {
     // Others //
     ////////////
 
+    /**
+     * Binds this {@link InteractiveModal} to specified {@link InteractableRegistry}. By default, it is registered into registry of the
+     * {@link InteractiveListener} registered in {@link JDA} through which it is sent. Takes effect when it is sent next time.
+     *
+     * @param registry Non-null {@link InteractableRegistry}
+     *
+     * @return {@link InteractiveModal}
+     */
+    public InteractiveModal bindTo(@NonNull InteractableRegistry registry) {
+        support.bindTo(registry);
+        return this;
+    }
+
+    /**
+     * Binds this {@link InteractiveModal} to registry of specified {@link InteractiveListener}, see {@link #bindTo(InteractableRegistry)}
+     *
+     * @param interactiveListener Non-null {@link InteractiveListener}
+     *
+     * @return {@link InteractiveModal}
+     */
+    public InteractiveModal bindTo(@NonNull InteractiveListener interactiveListener) {
+        return bindTo(interactiveListener.getRegistry());
+    }
+
     public void expireAfter(long number, @NonNull TimeUnit timeUnit) {
-        expireAfter = new ImmutablePair<>(number, timeUnit);
+        support.expireAfter(number, timeUnit);
+    }
+
+    /**
+     * Expires this {@link InteractiveModal} after specified time without any interaction. Every interaction processed by this
+     * {@link InteractiveModal} extends the deadline.
+     *
+     * @param idleTime Positive idle time
+     * @param timeUnit Non-null {@link TimeUnit}
+     *
+     * @return {@link InteractiveModal}
+     */
+    public InteractiveModal expireAfterIdle(long idleTime, @NonNull TimeUnit timeUnit) {
+        return expireAfterIdle(idleTime, 0, timeUnit);
+    }
+
+    /**
+     * Expires this {@link InteractiveModal} after specified time without any interaction, but no later than after specified maximum lifetime
+     * since its creation. Every interaction processed by this {@link InteractiveModal} extends the deadline.
+     *
+     * @param idleTime    Positive idle time
+     * @param maxLifetime Maximum lifetime, zero means unlimited
+     * @param timeUnit    Non-null {@link TimeUnit}
+     *
+     * @return {@link InteractiveModal}
+     */
+    public InteractiveModal expireAfterIdle(long idleTime, long maxLifetime, @NonNull TimeUnit timeUnit) {
+        support.expireAfterIdle(idleTime, maxLifetime, timeUnit);
+        return this;
     }
 
     public void whenExpired(@NonNull Runnable expiredRunnable) {
-        this.expiredRunnable = expiredRunnable;
+        support.whenExpired(expiredRunnable);
+    }
+
+    public InteractableRegistry getRegistry() {
+        return support.getRegistry();
+    }
+
+    public Pair<Long, TimeUnit> getExpireAfter() {
+        return support.getExpireAfter();
+    }
+
+    public Runnable getExpiredRunnable() {
+        return support.getExpiredRunnable();
     }
 
     ///////////////
@@ -121,6 +185,7 @@ public final class InteractiveModal implements Interactable {
             return;
         }
 
+        support.onInteraction();
         modalClosedConsumer.accept(modalInteractionEvent);
     }
 
@@ -129,28 +194,34 @@ public final class InteractiveModal implements Interactable {
         return true;
     }
 
+    @Override
+    public Collection<String> getComponentIds() {
+        return Collections.singletonList(modalBuilder.getId());
+    }
+
+    @Override
+    public int getShardId() {
+        return support.getShardId();
+    }
+
     @Override
     public Pair<Long, TimeUnit> getExpireTime() {
-        return expireAfter;
+        return support.getExpireAfter();
     }
 
     @Override
     public boolean isExpired() {
-        long expireAfterMillis = expireAfter.getRight().toMillis(expireAfter.getLeft());
-
-        if (expireAfterMillis == 0) {
-            return false;
-        }
+        return support.isExpired();
+    }
 
-        return (createdTime + expireAfterMillis) < System.currentTimeMillis();
+    @Override
+    public long getExpirationTime() {
+        return support.getExpirationTime();
     }
 
     @Override
     public void onExpire() {
-        if (expiredRunnable != null) {
-            expiredRunnable.run();
-        }
-
+        support.onExpire();
         Interactable.super.onExpire();
     }
 }
@@ -1,12 +1,22 @@
 package dev.mayuna.mayusjdautils.interactive.components;
 
+import com.google.gson.JsonObject;
 import dev.mayuna.mayusjdautils.exceptions.CannotAddInteractionException;
+import dev.mayuna.mayusjdautils.interactive.AccessPolicy;
+import dev.mayuna.mayusjdautils.interactive.ComponentDisableScheduler;
+import dev.mayuna.mayusjdautils.interactive.ComponentIds;
 import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
 import dev.mayuna.mayusjdautils.interactive.Interaction;
 import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import dev.mayuna.mayusjdautils.interactive.MessageEditCoalescer;
+import dev.mayuna.mayusjdautils.interactive.persistence.InteractableFactory;
+import dev.mayuna.mayusjdautils.interactive.persistence.InteractableStore;
+import dev.mayuna.mayusjdautils.interactive.persistence.PersistentInteractable;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
@@ -24,42 +34,35 @@ import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 import net.dv8tion.jda.api.interactions.components.text.TextInput;
 import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
 import net.dv8tion.jda.api.requests.RestAction;
-import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
-import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
-import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
-import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
-import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
-import net.dv8tion.jda.api.utils.messages.MessageEditData;
-import net.dv8tion.jda.internal.utils.tuple.ImmutablePair;
-import net.dv8tion.jda.internal.utils.tuple.MutablePair;
 import net.dv8tion.jda.internal.utils.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
  * Interactive message that supports multiple action rows and interactions with different components
  */
-public final class InteractiveRowedMessage implements Interactable {
+public final class InteractiveRowedMessage implements PersistentInteractable {
 
-    private static final String randomFillerValue = UUID.randomUUID().toString();
+    private static final String randomFillerValue = ComponentIds.generate();
 
-    private final @Getter List<ActionRow> actionRows = new ArrayList<>(Message.MAX_COMPONENT_COUNT);
+    private final List<ActionRow> actionRows = new ArrayList<>(Message.MAX_COMPONENT_COUNT);
 
-    private final @Getter Map<Interaction, Consumer<GroupedInteractionEvent>> interactions = new LinkedHashMap<>();
+    private final Map<Interaction, Consumer<GroupedInteractionEvent>> interactions = new LinkedHashMap<>();
     private final @Getter Map<String, Consumer<StringSelectInteractionEvent>> stringSelectInteractionEventConsumerMap = new LinkedHashMap<>();
     private final @Getter Map<String, Consumer<EntitySelectInteractionEvent>> entitySelectInteractionEventConsumerMap = new LinkedHashMap<>();
 
     // Settings
-    private final List<Long> whitelistedUsers = new LinkedList<>();
+    private @Getter AccessPolicy accessPolicy = new AccessPolicy();
 
     // Other
-    private final long createdTime = System.currentTimeMillis();
+    private final MessageSupport support = new MessageSupport(this, this::getMessageEditBuilder, this::copyActionRows);
+    private @Getter String factoryName;
+    private @Getter JsonObject persistentData;
     private @Getter @Setter MessageEditBuilder messageEditBuilder;
-    private @Getter Pair<Long, TimeUnit> expireAfter = new MutablePair<>(5L, TimeUnit.MINUTES);
-    private @Getter Runnable expiredRunnable;
 
     private InteractiveRowedMessage() {
         for (int i = 0; i < Message.MAX_COMPONENT_COUNT; i++) {
@@ -91,10 +94,12 @@ public final class InteractiveRowedMessage implements Interactable {
 
         User user = event.getUser();
 
-        if (user == null || !canInteract(user)) {
+        if (user == null || !accessPolicy.canInteract(user, event.getMember())) {
             return;
         }
 
+        support.onInteraction();
+
         if (event.isEntitySelectMenuInteraction()) {
             String componentId = event.getEntitySelectInteractionEvent().getComponentId();
 
@@ -165,58 +170,365 @@ public final class InteractiveRowedMessage implements Interactable {
         return false;
     }
 
+    /**
+     * Removes {@link Interaction} and its component from this message. If the removed select option was the last one in its select menu, the
+     * whole select menu is removed. If the message was already sent, you need to edit it for the change to be visible.
+     *
+     * @param interaction Non-null {@link Interaction}
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage removeInteraction(@NonNull Interaction interaction) {
+        if (interactions.remove(interaction) == null) {
+            return this;
+        }
+
+        String interactionId = interaction.getId();
+        support.getRegistry().unindex(interactionId, this);
+        support.componentsChanged();
+
+        for (ActionRow actionRow : actionRows) {
+            List<ItemComponent> components = actionRow.getComponents();
+
+            if (interaction.isButton()) {
+                components.removeIf(component -> component instanceof Button && interactionId.equals(((Button) component).getId()));
+                continue;
+            }
+
+            if (components.isEmpty() || !(components.get(0) instanceof StringSelectMenu)) {
+                continue;
+            }
+
+            StringSelectMenu selectMenu = (StringSelectMenu) components.get(0);
+            StringSelectMenu.Builder selectMenuBuilder = selectMenu.createCopy();
+
+            if (!selectMenuBuilder.getOptions().removeIf(selectOption -> selectOption.getValue().equals(interactionId))) {
+                continue;
+            }
+
+            components.clear();
+
+            if (selectMenuBuilder.getOptions().isEmpty()) {
+                stringSelectInteractionEventConsumerMap.remove(selectMenu.getId());
+                support.getRegistry().unindex(selectMenu.getId(), this);
+            } else {
+                components.add(selectMenuBuilder.build());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Enables or disables button of specified {@link Interaction}. If the message was already sent, you need to edit it for the change to be
+     * visible.
+     *
+     * @param interaction Non-null button {@link Interaction}
+     * @param disabled    Whether the button should be disabled
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage setButtonDisabled(@NonNull Interaction interaction, boolean disabled) {
+        if (!interaction.isButton()) {
+            throw new IllegalArgumentException("Interaction is not a button!");
+        }
+
+        String interactionId = interaction.getId();
+
+        for (ActionRow actionRow : actionRows) {
+            List<ItemComponent> components = actionRow.getComponents();
+
+            for (int i = 0; i < components.size(); i++) {
+                ItemComponent component = components.get(i);
+
+                if (component instanceof Button && interactionId.equals(((Button) component).getId())) {
+                    components.set(i, ((Button) component).withDisabled(disabled));
+                    support.componentsChanged();
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Replaces options of string select menu on specified action row index. The select menu keeps its ID, so its handler stays registered.
+     * Option values generated by {@link ComponentIds} are indexed in the registry in place of the replaced ones. If the message was already
+     * sent, you need to edit it for the change to be visible.
+     *
+     * @param actionRowIndex Index of the action row
+     * @param selectOptions  Non-null {@link Collection} of 1 to {@link StringSelectMenu#OPTIONS_MAX_AMOUNT} {@link SelectOption}s
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage setSelectOptions(int actionRowIndex, @NonNull Collection<SelectOption> selectOptions) {
+        List<ItemComponent> components = getActionRowByIndex(actionRowIndex).getComponents();
+
+        if (components.isEmpty() || !(components.get(0) instanceof StringSelectMenu)) {
+            throw new IllegalArgumentException("On action row index " + actionRowIndex + " is no string select menu!");
+        }
+
+        StringSelectMenu selectMenu = (StringSelectMenu) components.get(0);
+        StringSelectMenu.Builder selectMenuBuilder = selectMenu.createCopy();
+        selectMenuBuilder.getOptions().clear();
+        selectMenuBuilder.addOptions(selectOptions);
+        selectMenuBuilder.setMaxValues(Math.min(selectMenuBuilder.getMaxValues(), selectOptions.size()));
+        selectMenuBuilder.setMinValues(Math.min(selectMenuBuilder.getMinValues(), selectMenuBuilder.getMaxValues()));
+        StringSelectMenu newSelectMenu = selectMenuBuilder.build();
+
+        // Same values as getComponentIds() returns, so the registry's index does not keep values of replaced options
+        InteractableRegistry registry = support.getRegistry();
+        indexGeneratedValues(registry, selectMenu, false);
+        components.set(0, newSelectMenu);
+        indexGeneratedValues(registry, newSelectMenu, true);
+        support.componentsChanged();
+        return this;
+    }
+
+    private void indexGeneratedValues(InteractableRegistry registry, StringSelectMenu selectMenu, boolean index) {
+        for (SelectOption selectOption : selectMenu.getOptions()) {
+            if (!ComponentIds.isGenerated(selectOption.getValue())) {
+                continue;
+            }
+
+            if (index) {
+                registry.index(selectOption.getValue(), this);
+            } else {
+                registry.unindex(selectOption.getValue(), this);
+            }
+        }
+    }
+
     public InteractiveRowedMessage addUserToWhitelist(User user) {
-        whitelistedUsers.add(user.getIdLong());
+        accessPolicy.allowUsers(user.getIdLong());
         return this;
     }
 
     public InteractiveRowedMessage removeUserFromWhitelist(User user) {
-        whitelistedUsers.remove(user.getIdLong());
+        accessPolicy.disallowUsers(user.getIdLong());
+        return this;
+    }
+
+    /**
+     * Adds specified users to the whitelist at once
+     *
+     * @param users Non-null {@link Collection} of {@link User}s
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage addUsersToWhitelist(@NonNull Collection<? extends User> users) {
+        accessPolicy.allowUsers(users);
+        return this;
+    }
+
+    /**
+     * Removes specified users from the whitelist at once
+     *
+     * @param users Non-null {@link Collection} of {@link User}s
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage removeUsersFromWhitelist(@NonNull Collection<? extends User> users) {
+        accessPolicy.disallowUsers(users);
+        return this;
+    }
+
+    /**
+     * Sets {@link AccessPolicy} which determines who can interact with this {@link InteractiveRowedMessage}. One policy can be shared by many messages,
+     * whitelist methods of this message then change the shared policy.
+     *
+     * @param accessPolicy Non-null {@link AccessPolicy}
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage setAccessPolicy(@NonNull AccessPolicy accessPolicy) {
+        this.accessPolicy = accessPolicy;
         return this;
     }
 
     @Override
     public boolean canInteract(@NonNull User user) {
-        if (whitelistedUsers.isEmpty()) {
-            return true;
-        }
+        return accessPolicy.canInteract(user);
+    }
+
+    /**
+     * Binds this {@link InteractiveRowedMessage} to specified {@link InteractableRegistry}. By default, it is registered into registry of the
+     * {@link InteractiveListener} registered in {@link JDA} through which it is sent. Takes effect when it is sent next time.
+     *
+     * @param registry Non-null {@link InteractableRegistry}
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage bindTo(@NonNull InteractableRegistry registry) {
+        support.bindTo(registry);
+        return this;
+    }
+
+    /**
+     * Binds this {@link InteractiveRowedMessage} to registry of specified {@link InteractiveListener}, see {@link #bindTo(InteractableRegistry)}
+     *
+     * @param interactiveListener Non-null {@link InteractiveListener}
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage bindTo(@NonNull InteractiveListener interactiveListener) {
+        return bindTo(interactiveListener.getRegistry());
+    }
 
-        return whitelistedUsers.contains(user.getIdLong());
+    /**
+     * Marks this {@link InteractiveRowedMessage} to be persisted in {@link InteractableStore} of its registry, so it can be restored after restart by
+     * {@link InteractableFactory} registered under specified name. Takes effect when it is sent next time.<br>
+     * Interactions are not persisted - the factory has to create {@link Interactable} which handles them by component IDs and the data.
+     *
+     * @param factoryName Non-null factory name
+     * @param data        Nullable data passed to the factory
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage persistAs(@NonNull String factoryName, JsonObject data) {
+        this.factoryName = factoryName;
+        this.persistentData = data;
+        return this;
     }
 
     public InteractiveRowedMessage expireAfter(long number, @NonNull TimeUnit timeUnit) {
-        expireAfter = new ImmutablePair<>(number, timeUnit);
+        support.expireAfter(number, timeUnit);
+        return this;
+    }
+
+    /**
+     * Expires this {@link InteractiveRowedMessage} after specified time without any interaction. Every interaction processed by this
+     * {@link InteractiveRowedMessage} extends the deadline.
+     *
+     * @param idleTime Positive idle time
+     * @param timeUnit Non-null {@link TimeUnit}
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage expireAfterIdle(long idleTime, @NonNull TimeUnit timeUnit) {
+        return expireAfterIdle(idleTime, 0, timeUnit);
+    }
+
+    /**
+     * Expires this {@link InteractiveRowedMessage} after specified time without any interaction, but no later than after specified maximum lifetime
+     * since its creation. Every interaction processed by this {@link InteractiveRowedMessage} extends the deadline.
+     *
+     * @param idleTime    Positive idle time
+     * @param maxLifetime Maximum lifetime, zero means unlimited
+     * @param timeUnit    Non-null {@link TimeUnit}
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage expireAfterIdle(long idleTime, long maxLifetime, @NonNull TimeUnit timeUnit) {
+        support.expireAfterIdle(idleTime, maxLifetime, timeUnit);
         return this;
     }
 
     public InteractiveRowedMessage whenExpired(@NonNull Runnable expiredRunnable) {
-        this.expiredRunnable = expiredRunnable;
+        support.whenExpired(expiredRunnable);
         return this;
     }
 
+    /**
+     * Disables all components of the sent message when this {@link InteractiveRowedMessage} expires. Edits are sent in background through
+     * {@link ComponentDisableScheduler} of the registry, which spreads them over time, so many messages expiring at once do not exhaust rate
+     * limits. Must be enabled before the message is sent.
+     *
+     * @param disableOnExpire True to disable components on expire
+     *
+     * @return {@link InteractiveRowedMessage}
+     */
+    public InteractiveRowedMessage disableOnExpire(boolean disableOnExpire) {
+        support.setDisableOnExpire(disableOnExpire);
+        return this;
+    }
+
+    public InteractableRegistry getRegistry() {
+        return support.getRegistry();
+    }
+
+    public Pair<Long, TimeUnit> getExpireAfter() {
+        return support.getExpireAfter();
+    }
+
+    public Runnable getExpiredRunnable() {
+        return support.getExpiredRunnable();
+    }
+
+    public boolean isDisableOnExpire() {
+        return support.isDisableOnExpire();
+    }
+
+    @Override
+    public Collection<String> getComponentIds() {
+        List<String> componentIds = new ArrayList<>();
+
+        for (ActionRow actionRow : actionRows) {
+            for (ItemComponent component : actionRow.getComponents()) {
+                if (component instanceof Button) {
+                    componentIds.add(((Button) component).getId());
+                } else if (component instanceof SelectMenu) {
+                    componentIds.add(((SelectMenu) component).getId());
+
+                    if (component instanceof StringSelectMenu) {
+                        for (SelectOption selectOption : ((StringSelectMenu) component).getOptions()) {
+                            // Values chosen by user would disable registry's prefilter, events are found by the select menu's ID anyway
+                            if (ComponentIds.isGenerated(selectOption.getValue())) {
+                                componentIds.add(selectOption.getValue());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return componentIds;
+    }
+
+    @Override
+    public int getShardId() {
+        return support.getShardId();
+    }
+
     @Override
     public Pair<Long, TimeUnit> getExpireTime() {
-        return expireAfter;
+        return support.getExpireAfter();
     }
 
     @Override
     public boolean isExpired() {
-        long expireAfterMillis = expireAfter.getRight().toMillis(expireAfter.getLeft());
-
-        if (expireAfterMillis == 0) {
-            return false;
-        }
+        return support.isExpired();
+    }
 
-        return (createdTime + expireAfterMillis) < System.currentTimeMillis();
+    @Override
+    public long getExpirationTime() {
+        return support.getExpirationTime();
     }
 
     @Override
     public void onExpire() {
-        if (expiredRunnable != null) {
-            expiredRunnable.run();
-        }
+        support.onExpire();
+        PersistentInteractable.super.onExpire();
+    }
+
+    /**
+     * Returns interactions of this message. Use {@link Builder#onInteraction(int, Interaction, Consumer)} and
+     * {@link #removeInteraction(Interaction)} to change them.
+     *
+     * @return Non-null unmodifiable {@link Map} of {@link Interaction}s
+     */
+    public Map<Interaction, Consumer<GroupedInteractionEvent>> getInteractions() {
+        return Collections.unmodifiableMap(interactions);
+    }
 
-        Interactable.super.onExpire();
+    /**
+     * Returns copies of non-empty action rows of this message. Changes of the copies do not affect the message - use {@link Builder},
+     * {@link #removeInteraction(Interaction)}, {@link #setButtonDisabled(Interaction, boolean)} or {@link #setSelectOptions(int, Collection)}.
+     *
+     * @return Non-null unmodifiable {@link List} of {@link ActionRow}s
+     */
+    public List<ActionRow> getActionRows() {
+        return Collections.unmodifiableList(copyActionRows());
     }
 
     private ActionRow getActionRowByIndex(int index) {
@@ -240,18 +552,19 @@ public final class InteractiveRowedMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> sendMessage(@NonNull MessageChannelUnion messageChannelUnion) {
-        return sendEx(messageChannelUnion, null, false, false, null, null);
+        return support.send(messageChannelUnion, null, false, false, null, null);
     }
 
     /**
-     * Edits specified {@link Message} with the interactive message
+     * Edits specified {@link Message} with the interactive message. If the message was last sent or edited by this {@link InteractiveRowedMessage} with
+     * the same content, embeds and components, no request is made and {@link SkippedEditAction} with the message is returned.
      *
      * @param message Non-null {@link Message}
      *
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> editMessage(@NonNull Message message) {
-        return sendEx(null, null, false, false, message, null);
+        return support.send(null, null, false, false, message, null);
     }
 
     /**
@@ -262,7 +575,7 @@ public final class InteractiveRowedMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> replyTo(@NonNull Message message) {
-        return sendEx(null, null, false, false, null, message);
+        return support.send(null, null, false, false, null, message);
     }
 
     /**
@@ -273,7 +586,7 @@ public final class InteractiveRowedMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> sendMessage(@NonNull InteractionHook interactionHook) {
-        return sendEx(null, interactionHook, false, false, null, null);
+        return support.send(null, interactionHook, false, false, null, null);
     }
 
     /**
@@ -285,22 +598,24 @@ public final class InteractiveRowedMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> sendMessage(@NonNull InteractionHook interactionHook, boolean ephemeral) {
-        return sendEx(null, interactionHook.setEphemeral(ephemeral), ephemeral, false, null, null);
+        return support.send(null, interactionHook.setEphemeral(ephemeral), ephemeral, false, null, null);
     }
 
     /**
-     * Edits the original message of the specified {@link InteractionHook}
+     * Edits the original message of the specified {@link InteractionHook}. If the edit would not change the message, no request is made and
+     * {@link SkippedEditAction} is returned, see {@link #editMessage(Message)}.
      *
      * @param interactionHook Non-null {@link InteractionHook}
      *
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> editOriginal(@NonNull InteractionHook interactionHook) {
-        return sendEx(null, interactionHook, false, true, null, null);
+        return support.send(null, interactionHook, false, true, null, null);
     }
 
     /**
-     * Edits the original message of the specified {@link InteractionHook} with specified ephemeral
+     * Edits the original message of the specified {@link InteractionHook} with specified ephemeral. If the edit would not change the message,
+     * no request is made and {@link SkippedEditAction} is returned, see {@link #editMessage(Message)}.
      *
      * @param interactionHook Non-null {@link InteractionHook}
      * @param ephemeral       Ephemeral
@@ -308,69 +623,48 @@ public final class InteractiveRowedMessage implements Interactable {
      * @return {@link RestAction} of {@link Message}
      */
     public RestAction<Message> editOriginal(@NonNull InteractionHook interactionHook, boolean ephemeral) {
-        return sendEx(null, interactionHook.setEphemeral(ephemeral), ephemeral, true, null, null);
+        return support.send(null, interactionHook.setEphemeral(ephemeral), ephemeral, true, null, null);
     }
 
-    private RestAction<Message> sendEx(MessageChannelUnion messageChannelUnion, InteractionHook interactionHook, boolean ephemeral, boolean editOriginal, Message messageToEdit, Message messageToReplyTo) {
-        List<Button> buttons = new LinkedList<>();
-        List<SelectOption> selectOptions = new LinkedList<>();
-
-        interactions.forEach(((interaction, groupedInteractionEventConsumer) -> {
-            if (interaction.isButton()) {
-                buttons.add(interaction.getButton());
-            } else if (interaction.isSelectOption()) {
-                selectOptions.add(interaction.getSelectOption());
-            }
-        }));
-
-        MessageCreateAction createMessageAction = null; // Channel#sendMessage() / Channel#sendMessage()
-        MessageEditAction editMessageAction = null; // Channel#sendMessage() / Channel#editMessage()
-        WebhookMessageCreateAction<Message> hookMessageAction = null; // InteractionHook#sendMessage()
-        WebhookMessageEditAction<Message> hookMessageUpdateAction = null; // InteractionHook#editOriginal()
-
-        MessageEditData messageEditData = messageEditBuilder.build();
-
-        if (messageChannelUnion != null) {
-            createMessageAction = messageChannelUnion.sendMessage(MessageCreateBuilder.fromEditData(messageEditData).build());
-        } else if (interactionHook != null) {
-            if (editOriginal) {
-                hookMessageUpdateAction = interactionHook.setEphemeral(ephemeral).editOriginal(messageEditData);
-            } else {
-                hookMessageAction = interactionHook.setEphemeral(ephemeral).sendMessage(MessageCreateBuilder.fromEditData(messageEditData).build());
-            }
-        } else if (messageToEdit != null) {
-            editMessageAction = messageToEdit.editMessage(messageEditData);
-        } else {
-            createMessageAction = messageToReplyTo.reply(MessageCreateBuilder.fromEditData(messageEditData).build());
-        }
+    /**
+     * Edits specified {@link Message} with the interactive message, coalescing edits of the same message (see {@link MessageEditCoalescer}).
+     * Edits submitted within the coalescing window are replaced by the latest one, which is built from the state of this
+     * {@link InteractiveRowedMessage} at the moment it is sent.
+     *
+     * @param message Non-null {@link Message}
+     *
+     * @return Non-null {@link CompletableFuture} of {@link Message}
+     */
+    public CompletableFuture<Message> editMessageCoalesced(@NonNull Message message) {
+        return support.editMessageCoalesced(message);
+    }
 
-        List<ActionRow> actionRowsCopy = new ArrayList<>(5);
+    /**
+     * Edits the original message of the specified {@link InteractionHook}, coalescing edits of the same message (see
+     * {@link #editMessageCoalesced(Message)}). Edits made through hooks of different component interactions on the same message are
+     * coalesced too - the interactions still have to be acknowledged, for example by {@link GroupedInteractionEvent#deferEdit()}.
+     *
+     * @param interactionHook Non-null {@link InteractionHook}
+     *
+     * @return Non-null {@link CompletableFuture} of {@link Message}
+     */
+    public CompletableFuture<Message> editOriginalCoalesced(@NonNull InteractionHook interactionHook) {
+        return support.editOriginalCoalesced(interactionHook);
+    }
 
-        for (int i = 0; i < actionRows.size(); i++) {
-            ActionRow actionRow = getActionRowByIndex(i);
+    /**
+     * Copies non-empty action rows, so the built payload does not change with them
+     */
+    private List<ActionRow> copyActionRows() {
+        List<ActionRow> actionRowsCopy = new ArrayList<>(Message.MAX_COMPONENT_COUNT);
 
+        for (ActionRow actionRow : actionRows) {
             if (!actionRow.getComponents().isEmpty()) {
-                actionRowsCopy.add(actionRow);
+                actionRowsCopy.add(ActionRow.of(new ArrayList<>(actionRow.getComponents())));
             }
         }
 
-        RestAction<Message> restAction;
-
-        if (createMessageAction != null) {
-            restAction = createMessageAction.setComponents(actionRowsCopy);
-        } else if (editMessageAction != null) {
-            restAction = editMessageAction.setComponents(actionRowsCopy);
-        } else {
-            if (hookMessageUpdateAction != null) {
-                restAction = hookMessageUpdateAction.setComponents(actionRowsCopy);
-            } else {
-                restAction = hookMessageAction.setComponents(actionRowsCopy);
-            }
-        }
-
-        InteractiveListener.addInteractable(this);
-
-        return restAction;
+        return actionRowsCopy;
     }
 
     public static class Builder {
@@ -401,9 +695,11 @@ public final class InteractiveRowedMessage implements Interactable {
                 throw new IllegalArgumentException("On action row index " + actionRowIndex + " are already some components. Cannot add Select Menu!");
             }
 
-            selectMenu.setId(UUID.randomUUID().toString());
+            selectMenu.setId(ComponentIds.generate());
 
             actionRow.getComponents().add(selectMenu.build());
+            interactiveRowedMessage.support.getRegistry().index(selectMenu.getId(), interactiveRowedMessage);
+            interactiveRowedMessage.support.componentsChanged();
             return this;
         }
 
@@ -418,7 +714,7 @@ public final class InteractiveRowedMessage implements Interactable {
          * @return Builder
          */
         public Builder addStringSelectMenu(int actionRowIndex, String selectMenuPlaceholder, Consumer<StringSelectMenu.Builder> buildSelectMenu, Consumer<StringSelectInteractionEvent> onInteracted) {
-            StringSelectMenu.Builder selectMenuBuilder = StringSelectMenu.create(UUID.randomUUID().toString());
+            StringSelectMenu.Builder selectMenuBuilder = StringSelectMenu.create(ComponentIds.generate());
             selectMenuBuilder.setPlaceholder(selectMenuPlaceholder);
 
             if (buildSelectMenu != null) {
@@ -473,7 +769,7 @@ public final class InteractiveRowedMessage implements Interactable {
          * @return Builder
          */
         public Builder addEntitySelectMenu(int actionRowIndex, String selectMenuPlaceholder, Collection<EntitySelectMenu.SelectTarget> selectTargets, Consumer<EntitySelectMenu.Builder> buildSelectMenu, Consumer<EntitySelectInteractionEvent> onInteracted) {
-            EntitySelectMenu.Builder selectMenuBuilder = EntitySelectMenu.create(UUID.randomUUID().toString(), selectTargets);
+            EntitySelectMenu.Builder selectMenuBuilder = EntitySelectMenu.create(ComponentIds.generate(), selectTargets);
             selectMenuBuilder.setPlaceholder(selectMenuPlaceholder);
             buildSelectMenu.accept(selectMenuBuilder);
             addSelectMenu(actionRowIndex, selectMenuBuilder);
@@ -559,6 +855,7 @@ public final class InteractiveRowedMessage implements Interactable {
                     case BUTTON_CLICK:
                         actionRow.getComponents().add(interaction.getButton());
                         interactiveRowedMessage.interactions.put(interaction, onInteracted);
+                        interactiveRowedMessage.support.getRegistry().index(interaction.getId(), interactiveRowedMessage);
                         break;
                     case ENTITY_SELECT_MENU_OPTION_CLICK:
                     case STRING_SELECT_MENU_OPTION_CLICK:
@@ -582,6 +879,7 @@ public final class InteractiveRowedMessage implements Interactable {
 
                         actionRow.getComponents().add(interaction.getButton());
                         interactiveRowedMessage.interactions.put(interaction, onInteracted);
+                        interactiveRowedMessage.support.getRegistry().index(interaction.getId(), interactiveRowedMessage);
                         break;
                     case STRING_SELECT:
                         if (!interaction.isSelectOption()) {
@@ -600,6 +898,7 @@ public final class InteractiveRowedMessage implements Interactable {
                         selectMenuBuilder.getOptions().removeIf(selectOption -> selectOption.getValue().equals(randomFillerValue));
                         actionRow.getComponents().add(selectMenuBuilder.addOptions(interaction.getSelectOption()).build());
                         interactiveRowedMessage.interactions.put(interaction, onInteracted);
+                        interactiveRowedMessage.support.getRegistry().index(interaction.getId(), interactiveRowedMessage);
                         break;
                     case USER_SELECT:
                     case ROLE_SELECT:
@@ -610,6 +909,7 @@ public final class InteractiveRowedMessage implements Interactable {
 
             }
 
+            interactiveRowedMessage.support.componentsChanged();
             return this;
         }
 
@@ -0,0 +1,178 @@
+package dev.mayuna.mayusjdautils.interactive.components;
+
+import dev.mayuna.mayusjdautils.interactive.MessageEditCoalescer;
+import dev.mayuna.mayusjdautils.util.MessageFingerprint;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link ComponentSupport} of interactive message - sends and edits the message, skips edits which would not change it and disables its
+ * components on expire
+ */
+final class MessageSupport extends ComponentSupport {
+
+    private final Supplier<MessageEditBuilder> messageEditBuilderSupplier;
+    private final Supplier<List<ActionRow>> actionRowsSupplier;
+    private final PayloadCache payloadCache = new PayloadCache();
+    private final AtomicLong componentsVersion = new AtomicLong(); // Incremented on every change of components
+    private @Getter @Setter boolean disableOnExpire;
+    private volatile Message sentMessage;
+    private volatile InteractionHook sentInteractionHook;
+    private volatile long lastFingerprint = MessageFingerprint.NONE; // Fingerprint of the last content of the sent message
+
+    /**
+     * Creates new {@link MessageSupport}
+     *
+     * @param interactable               Non-null message which delegates to this support
+     * @param messageEditBuilderSupplier Non-null supplier of the message's current {@link MessageEditBuilder}
+     * @param actionRowsSupplier         Non-null supplier which builds the message's action rows
+     */
+    MessageSupport(@NonNull Interactable interactable, @NonNull Supplier<MessageEditBuilder> messageEditBuilderSupplier, @NonNull Supplier<List<ActionRow>> actionRowsSupplier) {
+        super(interactable);
+        this.messageEditBuilderSupplier = messageEditBuilderSupplier;
+        this.actionRowsSupplier = actionRowsSupplier;
+    }
+
+    /**
+     * Marks the components as changed, so they are built again when the message is sent next time
+     */
+    void componentsChanged() {
+        componentsVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns built payload, reused until the message edit builder or the components change
+     */
+    PayloadCache.Payload getPayload() {
+        return payloadCache.get(messageEditBuilderSupplier.get(), componentsVersion.get(), actionRowsSupplier);
+    }
+
+    RestAction<Message> send(MessageChannelUnion messageChannelUnion, InteractionHook interactionHook, boolean ephemeral, boolean editOriginal, Message messageToEdit, Message messageToReplyTo) {
+        MessageCreateAction createMessageAction = null; // Channel#sendMessage() / Channel#sendMessage()
+        MessageEditAction editMessageAction = null; // Channel#sendMessage() / Channel#editMessage()
+        WebhookMessageCreateAction<Message> hookMessageAction = null; // InteractionHook#sendMessage()
+        WebhookMessageEditAction<Message> hookMessageUpdateAction = null; // InteractionHook#editOriginal()
+
+        PayloadCache.Payload payload = getPayload();
+        long fingerprint = payload.getFingerprint();
+        Message lastSentMessage = sentMessage;
+
+        if ((messageToEdit != null || editOriginal) && fingerprint != MessageFingerprint.NONE && fingerprint == lastFingerprint
+                && isSameMessage(lastSentMessage, messageToEdit, interactionHook)) {
+            // The message already shows the same content, so it is neither edited nor registered again
+            return new SkippedEditAction(lastSentMessage);
+        }
+
+        if (messageChannelUnion != null) {
+            createMessageAction = messageChannelUnion.sendMessage(payload.getMessageCreateData());
+        } else if (interactionHook != null) {
+            if (editOriginal) {
+                hookMessageUpdateAction = interactionHook.setEphemeral(ephemeral).editOriginal(payload.getMessageEditData());
+            } else {
+                hookMessageAction = interactionHook.setEphemeral(ephemeral).sendMessage(payload.getMessageCreateData());
+            }
+        } else if (messageToEdit != null) {
+            editMessageAction = messageToEdit.editMessage(payload.getMessageEditData());
+        } else {
+            createMessageAction = messageToReplyTo.reply(payload.getMessageCreateData());
+        }
+
+        List<ActionRow> actionRows = payload.getActionRows();
+
+        RestAction<Message> restAction;
+
+        if (createMessageAction != null) {
+            restAction = createMessageAction.setComponents(actionRows);
+        } else if (editMessageAction != null) {
+            restAction = editMessageAction.setComponents(actionRows);
+        } else {
+            if (hookMessageUpdateAction != null) {
+                restAction = hookMessageUpdateAction.setComponents(actionRows);
+            } else {
+                restAction = hookMessageAction.setComponents(actionRows);
+            }
+        }
+
+        if (messageChannelUnion != null) {
+            register(messageChannelUnion.getJDA(), messageChannelUnion.getType().isGuild());
+        } else if (interactionHook != null) {
+            register(interactionHook.getJDA(), interactionHook.getInteraction().isFromGuild());
+        } else {
+            Message message = messageToEdit != null ? messageToEdit : messageToReplyTo;
+            register(message.getJDA(), message.isFromGuild());
+        }
+
+        return restAction.map(message -> {
+            sentMessage = message;
+            sentInteractionHook = interactionHook;
+            lastFingerprint = fingerprint;
+            return message;
+        });
+    }
+
+    /**
+     * Edits specified {@link Message}, coalescing edits of the same message (see {@link MessageEditCoalescer})
+     */
+    CompletableFuture<Message> editMessageCoalesced(@NonNull Message message) {
+        return getRegistry().getMessageEditCoalescer().edit(message.getIdLong(), () -> send(null, null, false, false, message, null));
+    }
+
+    /**
+     * Edits the original message of specified {@link InteractionHook}, coalescing edits of the same message (see {@link MessageEditCoalescer})
+     */
+    CompletableFuture<Message> editOriginalCoalesced(@NonNull InteractionHook interactionHook) {
+        long messageId = interactionHook.getInteraction() instanceof ComponentInteraction
+                         ? ((ComponentInteraction) interactionHook.getInteraction()).getMessageIdLong()
+                         : interactionHook.getInteraction().getIdLong();
+
+        return getRegistry().getMessageEditCoalescer().edit(messageId, () -> send(null, interactionHook, false, true, null, null));
+    }
+
+    /**
+     * Runs the expired runnable and schedules disabling of the sent message's components, if enabled
+     */
+    @Override
+    void onExpire() {
+        super.onExpire();
+
+        Message sentMessage = this.sentMessage;
+
+        if (disableOnExpire && sentMessage != null) {
+            getRegistry().getComponentDisableScheduler().schedule(sentMessage, sentInteractionHook);
+        }
+    }
+
+    private boolean isSameMessage(Message lastSentMessage, Message messageToEdit, InteractionHook interactionHook) {
+        if (lastSentMessage == null) {
+            return false;
+        }
+
+        if (messageToEdit != null) {
+            return messageToEdit.getIdLong() == lastSentMessage.getIdLong();
+        }
+
+        if (interactionHook == sentInteractionHook) {
+            return true;
+        }
+
+        return interactionHook.getInteraction() instanceof ComponentInteraction
+                && ((ComponentInteraction) interactionHook.getInteraction()).getMessageIdLong() == lastSentMessage.getIdLong();
+    }
+}
@@ -0,0 +1,143 @@
+package dev.mayuna.mayusjdautils.interactive.components;
+
+import dev.mayuna.mayusjdautils.util.MessageFingerprint;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Built payload of interactive message, reused while neither the {@link MessageEditBuilder} nor the components change.<br>
+ * The builder is compared by its content, embeds, mentions and flags - it is not built again unless one of them changes. Components are
+ * built again only when version of the components, which the interactive message increments on every change of its interactions or action
+ * rows, changes. Messages with attachments are never cached, since files can be uploaded only once.
+ */
+final class PayloadCache {
+
+    private MessageEditBuilder messageEditBuilder;
+    private BuilderSnapshot builderSnapshot;
+    private long componentsVersion;
+    private Payload payload;
+
+    /**
+     * Returns payload of specified builder and components, building only the parts which changed since the last call
+     *
+     * @param messageEditBuilder Non-null {@link MessageEditBuilder}
+     * @param componentsVersion  Version of the components
+     * @param actionRowsSupplier Non-null supplier of action rows, called when the version changes
+     *
+     * @return Non-null {@link Payload}
+     */
+    synchronized Payload get(MessageEditBuilder messageEditBuilder, long componentsVersion, Supplier<List<ActionRow>> actionRowsSupplier) {
+        Payload payload = this.payload;
+        boolean cacheable = messageEditBuilder.getAttachments().isEmpty();
+        boolean builderChanged = payload == null || !cacheable || messageEditBuilder != this.messageEditBuilder || !builderSnapshot.matches(messageEditBuilder);
+        boolean componentsChanged = payload == null || componentsVersion != this.componentsVersion;
+
+        if (!builderChanged && !componentsChanged) {
+            return payload;
+        }
+
+        MessageEditData messageEditData = builderChanged ? messageEditBuilder.build() : payload.messageEditData;
+        List<ActionRow> actionRows = componentsChanged ? Collections.unmodifiableList(new ArrayList<>(actionRowsSupplier.get())) : payload.actionRows;
+        Payload newPayload = new Payload(messageEditData, actionRows, MessageFingerprint.of(messageEditData, actionRows));
+
+        if (cacheable) {
+            this.messageEditBuilder = messageEditBuilder;
+            this.builderSnapshot = new BuilderSnapshot(messageEditBuilder);
+            this.componentsVersion = componentsVersion;
+            this.payload = newPayload;
+        } else {
+            this.payload = null;
+        }
+
+        return newPayload;
+    }
+
+    /**
+     * Immutable built payload
+     */
+    static final class Payload {
+
+        private final MessageEditData messageEditData;
+        private final List<ActionRow> actionRows;
+        private final long fingerprint;
+        private volatile MessageCreateData messageCreateData;
+
+        private Payload(MessageEditData messageEditData, List<ActionRow> actionRows, long fingerprint) {
+            this.messageEditData = messageEditData;
+            this.actionRows = actionRows;
+            this.fingerprint = fingerprint;
+        }
+
+        MessageEditData getMessageEditData() {
+            return messageEditData;
+        }
+
+        /**
+         * Returns the payload as {@link MessageCreateData} without components, created on first call
+         */
+        MessageCreateData getMessageCreateData() {
+            MessageCreateData messageCreateData = this.messageCreateData;
+
+            if (messageCreateData == null) {
+                messageCreateData = MessageCreateBuilder.fromEditData(messageEditData).build();
+                this.messageCreateData = messageCreateData;
+            }
+
+            return messageCreateData;
+        }
+
+        List<ActionRow> getActionRows() {
+            return actionRows;
+        }
+
+        long getFingerprint() {
+            return fingerprint;
+        }
+    }
+
+    /**
+     * State of {@link MessageEditBuilder} which affects the built {@link MessageEditData}
+     */
+    private static final class BuilderSnapshot {
+
+        private final String content;
+        private final List<?> embeds;
+        private final List<?> components;
+        private final Set<?> allowedMentions;
+        private final Set<String> mentionedUsers;
+        private final Set<String> mentionedRoles;
+        private final boolean mentionRepliedUser;
+        private final long messageFlags;
+        private final boolean replace;
+
+        private BuilderSnapshot(MessageEditBuilder messageEditBuilder) {
+            this.content = messageEditBuilder.getContent();
+            this.embeds = new ArrayList<>(messageEditBuilder.getEmbeds());
+            this.components = new ArrayList<>(messageEditBuilder.getComponents());
+            this.allowedMentions = new HashSet<>(messageEditBuilder.getAllowedMentions());
+            this.mentionedUsers = new HashSet<>(messageEditBuilder.getMentionedUsers());
+            this.mentionedRoles = new HashSet<>(messageEditBuilder.getMentionedRoles());
+            this.mentionRepliedUser = messageEditBuilder.isMentionRepliedUser();
+            this.messageFlags = messageEditBuilder.getMessageFlagsRaw();
+            this.replace = messageEditBuilder.isReplace();
+        }
+
+        private boolean matches(MessageEditBuilder messageEditBuilder) {
+            return Objects.equals(content, messageEditBuilder.getContent())
+                    && embeds.equals(messageEditBuilder.getEmbeds())
+                    && components.equals(messageEditBuilder.getComponents())
+                    && mentionRepliedUser == messageEditBuilder.isMentionRepliedUser()
+                    && messageFlags == messageEditBuilder.getMessageFlagsRaw()
+                    && replace == messageEditBuilder.isReplace()
+                    && allowedMentions.equals(messageEditBuilder.getAllowedMentions())
+                    && mentionedUsers.equals(messageEditBuilder.getMentionedUsers())
+                    && mentionedRoles.equals(messageEditBuilder.getMentionedRoles());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.mayuna.mayusjdautils.interactive.components;
+
+import lombok.Getter;
+import lombok.NonNull;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * {@link RestAction} returned instead of an edit of interactive message, which would not change the message - the message already shows the
+ * same content, embeds and components. No request is made, the action completes right away with the last sent {@link Message}.<br>
+ * Callers which need to know whether the message was edited can check the returned action with {@code instanceof}.
+ */
+public final class SkippedEditAction implements RestAction<Message> {
+
+    private final @Getter Message message;
+
+    SkippedEditAction(@NonNull Message message) {
+        this.message = message;
+    }
+
+    @Override
+    public @NonNull JDA getJDA() {
+        return message.getJDA();
+    }
+
+    @Override
+    public @NonNull RestAction<Message> setCheck(BooleanSupplier checks) {
+        return this;
+    }
+
+    @Override
+    public void queue(Consumer<? super Message> success, Consumer<? super Throwable> failure) {
+        if (success != null) {
+            success.accept(message);
+        } else {
+            RestAction.getDefaultSuccess().accept(message);
+        }
+    }
+
+    @Override
+    public Message complete(boolean shouldQueue) {
+        return message;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Message> submit(boolean shouldQueue) {
+        return CompletableFuture.completedFuture(message);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.mayuna.mayusjdautils.interactive.persistence;
+
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+
+/**
+ * Restores persisted {@link Interactable}s, see {@link InteractableStore#registerFactory(String, InteractableFactory)}
+ */
+@FunctionalInterface
+public interface InteractableFactory {
+
+    /**
+     * Creates {@link Interactable} which handles events of the persisted one. The created {@link Interactable} is registered with component IDs,
+     * shard ID and expiration time of the persisted one, so it does not have to know them - it may look at
+     * {@link PersistedInteractable#getComponentIds()} and {@link PersistedInteractable#getData()} to tell the components apart.
+     *
+     * @param persistedInteractable Non-null {@link PersistedInteractable}
+     *
+     * @return Nullable {@link Interactable}, null if it should not be restored
+     */
+    Interactable create(PersistedInteractable persistedInteractable);
+}
@@ -0,0 +1,440 @@
+package dev.mayuna.mayusjdautils.interactive.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Keeps {@link PersistentInteractable}s of {@link InteractableRegistry} on disk, so they keep working after restart of the bot.<br>
+ * Every registration, change and removal (including expiration) is appended to write-ahead log ({@code wal.jsonl}), which is compacted into
+ * snapshot ({@code snapshot.jsonl}) after {@link #getCompactAfterEntries()} entries. Files are written on single background thread, so the
+ * registry is never blocked by disk. Entries are flushed to the OS, but not synced to the disk, so the latest entries may be lost on power
+ * failure.<br>
+ * Failed writes are reported to {@link #getErrorHandler()} and by the next {@link #flush()}. When an entry cannot be appended to the
+ * write-ahead log, the store writes a snapshot instead, so the change is persisted once the disk works again.<br>
+ * On startup, call {@link #restore(InteractableRegistry)} after registering factories with
+ * {@link #registerFactory(String, InteractableFactory)}. Restored {@link Interactable}s are created by factories and registered with their
+ * persisted component IDs, without any request to Discord.
+ * <pre>{@code
+ * InteractableStore store = new InteractableStore(Paths.get("interactables"));
+ * store.registerFactory("role-buttons", persisted -> new RoleButtons(persisted.getData()));
+ * store.restore(interactiveListener.getRegistry());
+ * }</pre>
+ */
+public final class InteractableStore implements AutoCloseable {
+
+    private static final String SNAPSHOT_FILE = "snapshot.jsonl";
+    private static final String SNAPSHOT_TEMP_FILE = "snapshot.tmp";
+    private static final String WAL_FILE = "wal.jsonl";
+
+    private final Gson gson = new Gson();
+    private final Path directory;
+    private final Map<String, InteractableFactory> factories = new ConcurrentHashMap<>();
+    private final Map<String, PersistedInteractable> persistedInteractables = new ConcurrentHashMap<>();
+    private final Map<Interactable, String> ids = new ConcurrentHashMap<>();
+
+    private final ExecutorService writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Interactable-Store-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger pendingEntries = new AtomicInteger();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicReference<IOException> unreportedFailure = new AtomicReference<>(); // Reported by flush()
+    private BufferedWriter walWriter; // Only accessed by writer thread
+    private int walEntries; // Only accessed by writer thread
+
+    // Settings
+    private @Getter @Setter int compactAfterEntries = 10_000;
+    private @Getter @Setter Consumer<IOException> errorHandler; // Nullable, failures go to uncaught exception handler of the writer thread
+
+    /**
+     * Creates {@link InteractableStore} which keeps its files in specified directory. The directory is created if it does not exist.
+     *
+     * @param directory Non-null {@link Path}
+     */
+    public InteractableStore(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Registers {@link InteractableFactory} which restores {@link PersistentInteractable}s with specified factory name
+     *
+     * @param factoryName Non-null factory name
+     * @param factory     Non-null {@link InteractableFactory}
+     */
+    public void registerFactory(@NonNull String factoryName, @NonNull InteractableFactory factory) {
+        factories.put(factoryName, factory);
+    }
+
+    /**
+     * Loads persisted {@link Interactable}s, creates them by their factories and adds them into specified registry. After that, the store
+     * persists changes of {@link PersistentInteractable}s in the registry (see {@link InteractableRegistry#setStore(InteractableStore)}).<br>
+     * Expired {@link Interactable}s are dropped. {@link Interactable}s without registered factory are kept in the store, but not restored.
+     *
+     * @param registry Non-null {@link InteractableRegistry}
+     *
+     * @return Number of restored {@link Interactable}s
+     *
+     * @throws IOException If the files could not be read or the snapshot could not be written
+     */
+    public int restore(@NonNull InteractableRegistry registry) throws IOException {
+        try {
+            writerExecutor.submit(() -> {
+                closeWalWriter();
+                return null;
+            }).get();
+        } catch (InterruptedException | ExecutionException exception) {
+            throw new IOException("Could not close write-ahead log", exception.getCause() != null ? exception.getCause() : exception);
+        }
+
+        Files.createDirectories(directory);
+        persistedInteractables.clear();
+        ids.clear();
+
+        readLines(directory.resolve(SNAPSHOT_FILE), line -> {
+            PersistedInteractable persistedInteractable = gson.fromJson(line, PersistedInteractable.class);
+            persistedInteractables.put(persistedInteractable.getId(), persistedInteractable);
+        });
+
+        readLines(directory.resolve(WAL_FILE), line -> {
+            WalEntry walEntry = gson.fromJson(line, WalEntry.class);
+
+            if (walEntry.record != null) {
+                persistedInteractables.put(walEntry.record.getId(), walEntry.record);
+            } else if (walEntry.id != null) {
+                persistedInteractables.remove(walEntry.id);
+            }
+        });
+
+        persistedInteractables.values().removeIf(PersistedInteractable::isExpired);
+
+        List<RestoredInteractable> restoredInteractables = new ArrayList<>();
+
+        for (PersistedInteractable persistedInteractable : persistedInteractables.values()) {
+            InteractableFactory factory = factories.get(persistedInteractable.getFactoryName());
+
+            if (factory == null) {
+                continue;
+            }
+
+            Interactable interactable = factory.create(persistedInteractable);
+
+            if (interactable == null) {
+                continue;
+            }
+
+            RestoredInteractable restoredInteractable = new RestoredInteractable(persistedInteractable, interactable);
+            ids.put(restoredInteractable, persistedInteractable.getId());
+            restoredInteractables.add(restoredInteractable);
+        }
+
+        try {
+            compact().get();
+        } catch (InterruptedException | ExecutionException exception) {
+            throw new IOException("Could not write snapshot", exception.getCause() != null ? exception.getCause() : exception);
+        }
+
+        registry.setStore(this);
+        restoredInteractables.forEach(registry::add);
+
+        return restoredInteractables.size();
+    }
+
+    /**
+     * Persists current state of specified {@link PersistentInteractable}. Called by {@link InteractableRegistry} when the
+     * {@link PersistentInteractable} is registered or changed. Does nothing if the state did not change.<br>
+     * {@link PersistentInteractable} with null factory name is removed from the store.
+     *
+     * @param interactable Non-null {@link PersistentInteractable}
+     */
+    public void save(@NonNull PersistentInteractable interactable) {
+        String factoryName = interactable.getFactoryName();
+
+        if (factoryName == null) {
+            delete(interactable);
+            return;
+        }
+
+        String id = ids.computeIfAbsent(interactable, ignored -> UUID.randomUUID().toString());
+        PersistedInteractable persistedInteractable = new PersistedInteractable(id, factoryName, interactable.getComponentIds(),
+                                                                                interactable.getShardId(), interactable.getExpirationTime(),
+                                                                                interactable.getPersistentData());
+
+        synchronized (this) {
+            if (persistedInteractable.equals(persistedInteractables.put(id, persistedInteractable))) {
+                return;
+            }
+
+            append(new WalEntry(persistedInteractable, null));
+        }
+    }
+
+    /**
+     * Removes specified {@link PersistentInteractable} from the store. Called by {@link InteractableRegistry} when the
+     * {@link PersistentInteractable} is removed or expires.
+     *
+     * @param interactable Non-null {@link PersistentInteractable}
+     */
+    public void delete(@NonNull PersistentInteractable interactable) {
+        String id = ids.remove(interactable);
+
+        if (id == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (persistedInteractables.remove(id) != null) {
+                append(new WalEntry(null, id));
+            }
+        }
+    }
+
+    /**
+     * Returns persisted {@link Interactable}s, including those which were not restored
+     *
+     * @return Non-null {@link List} of {@link PersistedInteractable}s
+     */
+    public List<PersistedInteractable> getPersistedInteractables() {
+        return new ArrayList<>(persistedInteractables.values());
+    }
+
+    /**
+     * Returns number of failed writes of the write-ahead log and snapshot
+     *
+     * @return Number of failed writes
+     */
+    public long getFailedWrites() {
+        return failedWrites.get();
+    }
+
+    /**
+     * Writes snapshot of all persisted {@link Interactable}s and clears write-ahead log. Runs on background thread.
+     *
+     * @return Non-null {@link CompletableFuture}, completed exceptionally with {@link IOException} if the snapshot could not be written
+     */
+    public CompletableFuture<Void> compact() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        writerExecutor.execute(() -> {
+            try {
+                writeSnapshot();
+                future.complete(null);
+            } catch (IOException exception) {
+                onWriteFailure(exception);
+                future.completeExceptionally(exception);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Waits until all changes are written
+     *
+     * @throws IOException If the changes could not be flushed or if any write failed since the last flush
+     */
+    public void flush() throws IOException {
+        try {
+            writerExecutor.submit(() -> {
+                if (walWriter != null) {
+                    walWriter.flush();
+                }
+
+                return null;
+            }).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException exception) {
+            throw new IOException("Could not flush write-ahead log", exception.getCause());
+        }
+
+        IOException failure = unreportedFailure.getAndSet(null);
+
+        if (failure != null) {
+            throw new IOException("Some changes could not be written", failure);
+        }
+    }
+
+    /**
+     * Writes all changes and stops the writer thread. Changes made after closing are not persisted.
+     */
+    @Override
+    public void close() {
+        writerExecutor.execute(() -> {
+            try {
+                closeWalWriter();
+            } catch (IOException exception) {
+                onWriteFailure(exception);
+            }
+        });
+        writerExecutor.shutdown();
+
+        try {
+            writerExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    ////////////
+    // Writer //
+    ////////////
+
+    private void append(WalEntry walEntry) {
+        pendingEntries.incrementAndGet();
+
+        try {
+            writerExecutor.execute(() -> writeWalEntry(walEntry));
+        } catch (RejectedExecutionException ignored) {
+            // Store was closed
+            pendingEntries.decrementAndGet();
+        }
+    }
+
+    private void writeWalEntry(WalEntry walEntry) {
+        // Flushes once for the whole batch of queued entries
+        boolean lastPendingEntry = pendingEntries.decrementAndGet() == 0;
+
+        try {
+            if (walWriter == null) {
+                Files.createDirectories(directory);
+                walWriter = Files.newBufferedWriter(directory.resolve(WAL_FILE), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.APPEND);
+            }
+
+            walWriter.write(gson.toJson(walEntry));
+            walWriter.newLine();
+            walEntries++;
+
+            if (lastPendingEntry) {
+                walWriter.flush();
+            }
+        } catch (IOException exception) {
+            onWriteFailure(exception);
+            discardWalWriter();
+            walEntries = compactAfterEntries; // The snapshot contains the entry which was not written
+        }
+
+        if (walEntries >= compactAfterEntries) {
+            try {
+                writeSnapshot();
+            } catch (IOException exception) {
+                onWriteFailure(exception); // Retried with the next entry
+            }
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        Files.createDirectories(directory);
+        Path snapshotTempFile = directory.resolve(SNAPSHOT_TEMP_FILE);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(snapshotTempFile, StandardCharsets.UTF_8)) {
+            for (PersistedInteractable persistedInteractable : persistedInteractables.values()) {
+                writer.write(gson.toJson(persistedInteractable));
+                writer.newLine();
+            }
+        }
+
+        try {
+            Files.move(snapshotTempFile, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(snapshotTempFile, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Entries written until now are in the snapshot
+        discardWalWriter();
+        Files.newBufferedWriter(directory.resolve(WAL_FILE), StandardCharsets.UTF_8).close();
+        walEntries = 0;
+    }
+
+    private void closeWalWriter() throws IOException {
+        if (walWriter == null) {
+            return;
+        }
+
+        try {
+            walWriter.close();
+        } finally {
+            walWriter = null;
+        }
+    }
+
+    /**
+     * Closes the write-ahead log writer without reporting failures, used when its content is not needed anymore
+     */
+    private void discardWalWriter() {
+        try {
+            closeWalWriter();
+        } catch (IOException ignored) {
+            // Content is in the snapshot or will be written to it
+        }
+    }
+
+    private void onWriteFailure(IOException exception) {
+        failedWrites.incrementAndGet();
+        unreportedFailure.compareAndSet(null, exception);
+
+        Consumer<IOException> errorHandler = this.errorHandler;
+
+        if (errorHandler != null) {
+            errorHandler.accept(exception);
+        } else {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+        }
+    }
+
+    private void readLines(Path file, Consumer<String> lineConsumer) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    lineConsumer.accept(line);
+                } catch (JsonParseException | NullPointerException ignored) {
+                    // Line was not written completely, for example the bot was killed while writing
+                }
+            }
+        }
+    }
+
+    private static final class WalEntry {
+
+        private final PersistedInteractable record; // Null if removed
+        private final String id; // Null if saved
+
+        private WalEntry(PersistedInteractable record, String id) {
+            this.record = record;
+            this.id = id;
+        }
+    }
+}
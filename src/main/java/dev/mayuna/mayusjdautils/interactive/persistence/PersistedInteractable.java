@@ -0,0 +1,43 @@
+package dev.mayuna.mayusjdautils.interactive.persistence;
+
+import com.google.gson.JsonObject;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Persisted state of {@link PersistentInteractable} saved in {@link InteractableStore}<br>
+ * Safe to use with {@link com.google.gson.Gson#toJson(Object)}
+ */
+@Getter
+@EqualsAndHashCode
+public final class PersistedInteractable {
+
+    private final String id;
+    private final String factoryName;
+    private final List<String> componentIds; // Null if unindexed
+    private final int shardId;
+    private final long expirationTime;
+    private final JsonObject data;
+
+    PersistedInteractable(String id, String factoryName, Collection<String> componentIds, int shardId, long expirationTime, JsonObject data) {
+        this.id = id;
+        this.factoryName = factoryName;
+        this.componentIds = componentIds != null ? new ArrayList<>(componentIds) : null;
+        this.shardId = shardId;
+        this.expirationTime = expirationTime;
+        this.data = data;
+    }
+
+    /**
+     * Determines if the persisted {@link PersistentInteractable} is expired
+     *
+     * @return True if expired
+     */
+    public boolean isExpired() {
+        return expirationTime != 0 && expirationTime < System.currentTimeMillis();
+    }
+}
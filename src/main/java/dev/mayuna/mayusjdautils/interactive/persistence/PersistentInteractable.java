@@ -0,0 +1,27 @@
+package dev.mayuna.mayusjdautils.interactive.persistence;
+
+import com.google.gson.JsonObject;
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+
+/**
+ * {@link Interactable} which can be saved into {@link InteractableStore} and restored after restart by {@link InteractableFactory} registered
+ * under its factory name
+ */
+public interface PersistentInteractable extends Interactable {
+
+    /**
+     * Returns name of {@link InteractableFactory} which restores this {@link Interactable}
+     *
+     * @return Nullable factory name, null if this {@link Interactable} should not be persisted
+     */
+    String getFactoryName();
+
+    /**
+     * Returns data passed to {@link InteractableFactory} when restoring this {@link Interactable}, for example IDs of roles given by buttons
+     *
+     * @return Nullable {@link JsonObject}
+     */
+    default JsonObject getPersistentData() {
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.mayuna.mayusjdautils.interactive.persistence;
+
+import com.google.gson.JsonObject;
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+import lombok.Getter;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.internal.utils.tuple.Pair;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Interactable} created by {@link InteractableFactory}, registered under component IDs, shard ID and expiration time of the persisted
+ * {@link PersistentInteractable}
+ */
+final class RestoredInteractable implements PersistentInteractable {
+
+    private final @Getter PersistedInteractable persistedInteractable;
+    private final Interactable interactable;
+
+    RestoredInteractable(PersistedInteractable persistedInteractable, Interactable interactable) {
+        this.persistedInteractable = persistedInteractable;
+        this.interactable = interactable;
+    }
+
+    @Override
+    public String getFactoryName() {
+        return persistedInteractable.getFactoryName();
+    }
+
+    @Override
+    public JsonObject getPersistentData() {
+        return persistedInteractable.getData();
+    }
+
+    @Override
+    public boolean canInteract(User user) {
+        return interactable.canInteract(user);
+    }
+
+    @Override
+    public Pair<Long, TimeUnit> getExpireTime() {
+        return interactable.getExpireTime();
+    }
+
+    @Override
+    public long getExpirationTime() {
+        return persistedInteractable.getExpirationTime();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return persistedInteractable.isExpired();
+    }
+
+    @Override
+    public void process(GroupedInteractionEvent interactionEvent) {
+        interactable.process(interactionEvent);
+    }
+
+    @Override
+    public void onExpire() {
+        interactable.onExpire();
+    }
+
+    @Override
+    public Collection<String> getComponentIds() {
+        return persistedInteractable.getComponentIds();
+    }
+
+    @Override
+    public int getShardId() {
+        return persistedInteractable.getShardId();
+    }
+}
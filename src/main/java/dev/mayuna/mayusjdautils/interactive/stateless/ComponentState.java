@@ -0,0 +1,157 @@
+package dev.mayuna.mayusjdautils.interactive.stateless;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Small immutable list of typed values encoded in stateless component ID, see {@link StatelessComponentId}. Supported types are
+ * {@link Long} (and smaller integer types, which are stored as {@link Long}), {@link Boolean} and {@link String}.
+ */
+public final class ComponentState {
+
+    private static final ComponentState EMPTY = new ComponentState(Collections.emptyList());
+
+    private final List<Object> values;
+
+    private ComponentState(List<Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns empty {@link ComponentState}
+     *
+     * @return Non-null {@link ComponentState}
+     */
+    public static ComponentState empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates {@link ComponentState} with specified values
+     *
+     * @param values Non-null values, each of them must be {@link Long}, {@link Integer}, {@link Short}, {@link Byte}, {@link Boolean} or
+     *               {@link String}
+     *
+     * @return Non-null {@link ComponentState}
+     *
+     * @throws IllegalArgumentException if some value is null or of unsupported type
+     */
+    public static ComponentState of(@NonNull Object... values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+
+        List<Object> stateValues = new ArrayList<>(values.length);
+
+        for (Object value : values) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                stateValues.add(((Number) value).longValue());
+            } else if (value instanceof Boolean || value instanceof String) {
+                stateValues.add(value);
+            } else {
+                throw new IllegalArgumentException("Unsupported component state value: " + value);
+            }
+        }
+
+        return new ComponentState(Collections.unmodifiableList(stateValues));
+    }
+
+    static ComponentState ofDecoded(List<Object> values) {
+        return values.isEmpty() ? EMPTY : new ComponentState(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Returns number of values
+     *
+     * @return Number of values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns value at specified index
+     *
+     * @param index Index
+     *
+     * @return Non-null value - {@link Long}, {@link Boolean} or {@link String}
+     */
+    public Object get(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * Returns long value at specified index
+     *
+     * @param index Index
+     *
+     * @return Long value
+     *
+     * @throws IllegalStateException if the value is not a number
+     */
+    public long getLong(int index) {
+        return getTyped(index, Long.class);
+    }
+
+    /**
+     * Returns int value at specified index
+     *
+     * @param index Index
+     *
+     * @return Int value
+     *
+     * @throws IllegalStateException if the value is not a number
+     * @throws ArithmeticException   if the value does not fit into int
+     */
+    public int getInt(int index) {
+        return Math.toIntExact(getLong(index));
+    }
+
+    /**
+     * Returns boolean value at specified index
+     *
+     * @param index Index
+     *
+     * @return Boolean value
+     *
+     * @throws IllegalStateException if the value is not a boolean
+     */
+    public boolean getBoolean(int index) {
+        return getTyped(index, Boolean.class);
+    }
+
+    /**
+     * Returns string value at specified index
+     *
+     * @param index Index
+     *
+     * @return Non-null string value
+     *
+     * @throws IllegalStateException if the value is not a string
+     */
+    public String getString(int index) {
+        return getTyped(index, String.class);
+    }
+
+    List<Object> getValues() {
+        return values;
+    }
+
+    private <T> T getTyped(int index, Class<T> type) {
+        Object value = values.get(index);
+
+        if (!type.isInstance(value)) {
+            throw new IllegalStateException("Component state value at index " + index + " is not " + type.getSimpleName() + ": " + value);
+        }
+
+        return type.cast(value);
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentState" + values;
+    }
+}
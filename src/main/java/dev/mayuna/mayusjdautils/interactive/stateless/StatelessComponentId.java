@@ -0,0 +1,243 @@
+package dev.mayuna.mayusjdautils.interactive.stateless;
+
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Codec of stateless component IDs. Stateless ID contains key of {@link StatelessInteractionHandler} and {@link ComponentState}, so
+ * {@link InteractiveListener} can route interactions of the component without keeping any object for the message. Such components keep
+ * working after restart, as long as the handler is registered again under the same key.<br>
+ * Format is {@code ~<version>:<handler key>:<state>:<checksum>}, where the checksum is base 36 CRC32 of the preceding part. The checksum only
+ * detects corrupted IDs, it is not a signature - do not put secrets into the state.<br>
+ * Whole ID must fit within {@value #MAX_LENGTH} characters, Discord's limit for component IDs.
+ */
+public final class StatelessComponentId {
+
+    /**
+     * Maximum length of component ID
+     */
+    public static final int MAX_LENGTH = 100;
+
+    /**
+     * Maximum length of handler key
+     */
+    public static final int MAX_HANDLER_KEY_LENGTH = 32;
+
+    private static final String PREFIX = "~";
+    private static final char VERSION = '1';
+    private static final char SEPARATOR = ':';
+    private static final char VALUE_SEPARATOR = ',';
+
+    private final @Getter String handlerKey;
+    private final @Getter ComponentState state;
+
+    private StatelessComponentId(String handlerKey, ComponentState state) {
+        this.handlerKey = handlerKey;
+        this.state = state;
+    }
+
+    /**
+     * Encodes stateless component ID with empty state
+     *
+     * @param handlerKey Non-null handler key, see {@link #encode(String, ComponentState)}
+     *
+     * @return Non-null component ID
+     */
+    public static String encode(@NonNull String handlerKey) {
+        return encode(handlerKey, ComponentState.empty());
+    }
+
+    /**
+     * Encodes stateless component ID
+     *
+     * @param handlerKey Non-null handler key, consisting of at most {@value #MAX_HANDLER_KEY_LENGTH} letters, digits, '_', '-' and '.'
+     * @param state      Non-null {@link ComponentState}
+     *
+     * @return Non-null component ID
+     *
+     * @throws IllegalArgumentException if the handler key is invalid or the ID would be longer than {@value #MAX_LENGTH} characters
+     */
+    public static String encode(@NonNull String handlerKey, @NonNull ComponentState state) {
+        checkHandlerKey(handlerKey);
+
+        StringBuilder content = new StringBuilder(MAX_LENGTH);
+        content.append(VERSION).append(SEPARATOR).append(handlerKey).append(SEPARATOR);
+
+        List<Object> values = state.getValues();
+
+        for (int i = 0; i < values.size(); i++) {
+            if (i != 0) {
+                content.append(VALUE_SEPARATOR);
+            }
+
+            encodeValue(content, values.get(i));
+        }
+
+        String contentString = content.toString();
+        String componentId = PREFIX + contentString + SEPARATOR + checksum(contentString);
+
+        if (componentId.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Stateless component ID is longer than " + MAX_LENGTH + " characters (" + componentId.length() + "): " + componentId);
+        }
+
+        return componentId;
+    }
+
+    /**
+     * Determines if the component ID looks like stateless component ID. It may still be invalid, see {@link #decode(String)}.
+     *
+     * @param componentId Non-null component ID
+     *
+     * @return True if the ID has stateless component ID prefix
+     */
+    public static boolean isStateless(@NonNull String componentId) {
+        return componentId.startsWith(PREFIX);
+    }
+
+    /**
+     * Decodes stateless component ID
+     *
+     * @param componentId Non-null component ID
+     *
+     * @return Nullable {@link StatelessComponentId}, null if the ID is not valid stateless component ID of supported version
+     */
+    public static StatelessComponentId decode(@NonNull String componentId) {
+        if (!isStateless(componentId) || componentId.length() < 2 || componentId.charAt(1) != VERSION) {
+            return null;
+        }
+
+        int checksumSeparator = componentId.lastIndexOf(SEPARATOR);
+
+        if (checksumSeparator <= PREFIX.length()) {
+            return null;
+        }
+
+        String content = componentId.substring(PREFIX.length(), checksumSeparator);
+
+        if (!checksum(content).equals(componentId.substring(checksumSeparator + 1))) {
+            return null;
+        }
+
+        // <version>:<handler key>:<state>
+        String[] parts = content.split(String.valueOf(SEPARATOR), -1);
+
+        if (parts.length != 3 || parts[1].isEmpty()) {
+            return null;
+        }
+
+        try {
+            return new StatelessComponentId(parts[1], decodeState(parts[2]));
+        } catch (IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    private static void checkHandlerKey(String handlerKey) {
+        if (handlerKey.isEmpty() || handlerKey.length() > MAX_HANDLER_KEY_LENGTH) {
+            throw new IllegalArgumentException("Handler key must have 1 to " + MAX_HANDLER_KEY_LENGTH + " characters: " + handlerKey);
+        }
+
+        for (int i = 0; i < handlerKey.length(); i++) {
+            char character = handlerKey.charAt(i);
+
+            if (!(character >= 'a' && character <= 'z') && !(character >= 'A' && character <= 'Z') && !(character >= '0' && character <= '9')
+                    && character != '_' && character != '-' && character != '.') {
+                throw new IllegalArgumentException("Handler key contains invalid character '" + character + "': " + handlerKey);
+            }
+        }
+    }
+
+    private static void encodeValue(StringBuilder content, Object value) {
+        if (value instanceof Long) {
+            content.append('n').append(Long.toString((Long) value, Character.MAX_RADIX));
+        } else if (value instanceof Boolean) {
+            content.append((Boolean) value ? 't' : 'f');
+        } else {
+            content.append('s');
+            String string = (String) value;
+
+            for (int i = 0; i < string.length(); i++) {
+                char character = string.charAt(i);
+
+                if (character == '%' || character == SEPARATOR || character == VALUE_SEPARATOR) {
+                    content.append('%').append(Integer.toHexString(character).toUpperCase());
+                } else {
+                    content.append(character);
+                }
+            }
+        }
+    }
+
+    private static ComponentState decodeState(String state) {
+        if (state.isEmpty()) {
+            return ComponentState.empty();
+        }
+
+        String[] encodedValues = state.split(String.valueOf(VALUE_SEPARATOR), -1);
+        List<Object> values = new ArrayList<>(encodedValues.length);
+
+        for (String encodedValue : encodedValues) {
+            if (encodedValue.isEmpty()) {
+                throw new IllegalArgumentException("Empty value");
+            }
+
+            String rawValue = encodedValue.substring(1);
+
+            switch (encodedValue.charAt(0)) {
+                case 'n':
+                    values.add(Long.parseLong(rawValue, Character.MAX_RADIX));
+                    break;
+                case 't':
+                    values.add(true);
+                    break;
+                case 'f':
+                    values.add(false);
+                    break;
+                case 's':
+                    values.add(unescape(rawValue));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown value type: " + encodedValue);
+            }
+        }
+
+        return ComponentState.ofDecoded(values);
+    }
+
+    private static String unescape(String string) {
+        if (string.indexOf('%') == -1) {
+            return string;
+        }
+
+        StringBuilder unescaped = new StringBuilder(string.length());
+
+        for (int i = 0; i < string.length(); i++) {
+            char character = string.charAt(i);
+
+            if (character == '%') {
+                if (i + 2 >= string.length()) {
+                    throw new IllegalArgumentException("Invalid escape sequence: " + string);
+                }
+
+                unescaped.append((char) Integer.parseInt(string.substring(i + 1, i + 3), 16));
+                i += 2;
+            } else {
+                unescaped.append(character);
+            }
+        }
+
+        return unescaped.toString();
+    }
+
+    private static String checksum(String content) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(content.getBytes(StandardCharsets.UTF_8));
+        return Long.toString(crc32.getValue(), Character.MAX_RADIX);
+    }
+}
@@ -0,0 +1,20 @@
+package dev.mayuna.mayusjdautils.interactive.stateless;
+
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+
+/**
+ * Handles interactions of components with stateless IDs (see {@link StatelessComponentId}). Register it with
+ * {@link InteractiveListener#registerStatelessHandler(String, StatelessInteractionHandler)}.
+ */
+@FunctionalInterface
+public interface StatelessInteractionHandler {
+
+    /**
+     * Handles the interaction
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     * @param state            Non-null {@link ComponentState} decoded from the component ID
+     */
+    void handle(GroupedInteractionEvent interactionEvent, ComponentState state);
+}
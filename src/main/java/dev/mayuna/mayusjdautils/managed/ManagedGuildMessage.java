@@ -4,6 +4,7 @@ import com.google.gson.annotations.SerializedName;
 import dev.mayuna.mayusjdautils.exceptions.*;
 import dev.mayuna.mayusjdautils.util.CallbackResult;
 import dev.mayuna.mayusjdautils.util.DiscordUtils;
+import dev.mayuna.mayusjdautils.util.MessageFingerprint;
 import dev.mayuna.mayusjdautils.util.RestActionMethod;
 import lombok.Getter;
 import lombok.NonNull;
@@ -17,6 +18,7 @@ import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
 
 import java.util.function.Consumer;
 
@@ -36,6 +38,7 @@ public class ManagedGuildMessage {
     private transient @Getter Guild guild;
     private transient @Getter GuildMessageChannel guildMessageChannel;
     private transient @Getter Message message;
+    private transient long lastFingerprint = MessageFingerprint.NONE; // Fingerprint of the last sent or edited content of the message
 
     /**
      * Constructs {@link ManagedGuildMessage} with specified objects
@@ -292,11 +295,14 @@ public class ManagedGuildMessage {
 
     /**
      * Edits current message in {@link ManagedGuildMessage}, if failed, tries to send new message into current
-     * {@link ManagedGuildMessage#guildMessageChannel}
+     * {@link ManagedGuildMessage#guildMessageChannel}<br>
+     * If the message was already sent or edited with the same content, embeds and components by this {@link ManagedGuildMessage}, the edit
+     * is skipped and {@link CallbackResult#UNCHANGED} is supplied.
      *
      * @param messageEditBuilder Non-null {@link MessageEditBuilder}
      * @param restActionMethod   Determines which method should RestAction use (#queue() or #complete)
-     * @param success            This consumer is called with non-null {@link CallbackResult} if message was successfully edited or sent
+     * @param success            This consumer is called with non-null {@link CallbackResult} if message was successfully edited, sent or
+     *                           left unchanged
      * @param failure            This consumer is called with non-null {@link Exception} if editing or sending failed. These exceptions are possible:
      *                           {@link CannotSendNewMessageException} and {@link InvalidMessageIDException}. If there is Non-Discord Exception (e.g.
      *                           HTTP 500 error, SocketTimeoutException, etc.), {@link NonDiscordException} is supplied - In this case, you should try
@@ -304,6 +310,9 @@ public class ManagedGuildMessage {
      */
     public void sendOrEditMessage(@NonNull MessageEditBuilder messageEditBuilder, @NonNull RestActionMethod restActionMethod, @NonNull Consumer<CallbackResult> success,
                                   @NonNull Consumer<Exception> failure) {
+        MessageEditData messageEditData = messageEditBuilder.build();
+        long fingerprint = MessageFingerprint.of(messageEditData);
+
         Consumer<Message> sendNewMessageConsumer = (messageToSend) -> {
             boolean textChannelValid = isGuildMessageChannelValid();
 
@@ -316,6 +325,7 @@ public class ManagedGuildMessage {
                         case QUEUE: {
                             messageRestAction.queue(sentMessage -> {
                                 setMessage(sentMessage);
+                                lastFingerprint = fingerprint;
                                 success.accept(CallbackResult.SENT);
                             }, exception -> {
                                 handleException(exception, failure, () -> {
@@ -327,6 +337,7 @@ public class ManagedGuildMessage {
                         case COMPLETE: {
                             try {
                                 setMessage(messageRestAction.complete());
+                                lastFingerprint = fingerprint;
                                 success.accept(CallbackResult.SENT);
                             } catch (Exception exception) {
                                 handleException(exception, failure, () -> {
@@ -353,11 +364,17 @@ public class ManagedGuildMessage {
         boolean messageValid = isMessageValid();
 
         if (messageValid) {
-            RestAction<Message> messageRestAction = this.message.editMessage(messageEditBuilder.build());
+            if (fingerprint != MessageFingerprint.NONE && fingerprint == lastFingerprint) {
+                success.accept(CallbackResult.UNCHANGED);
+                return;
+            }
+
+            RestAction<Message> messageRestAction = this.message.editMessage(messageEditData);
 
             switch (restActionMethod) {
                 case QUEUE: {
                     messageRestAction.queue(editedMessage -> {
+                        lastFingerprint = fingerprint;
                         success.accept(CallbackResult.EDITED);
                     }, exception -> {
                         handleException(exception, failure, () -> {
@@ -369,6 +386,7 @@ public class ManagedGuildMessage {
                 case COMPLETE: {
                     try {
                         messageRestAction.complete();
+                        lastFingerprint = fingerprint;
                         success.accept(CallbackResult.EDITED);
                     } catch (Exception exception) {
                         handleException(exception, failure, () -> {
@@ -506,6 +524,10 @@ public class ManagedGuildMessage {
      * @return Non-null {@link ManagedGuildMessage}
      */
     public ManagedGuildMessage setMessage(Message message) {
+        if (message == null || message.getIdLong() != rawMessageId) {
+            lastFingerprint = MessageFingerprint.NONE; // Content of the other message is not known
+        }
+
         if (message == null) {
             this.message = null;
             this.rawMessageId = 0;
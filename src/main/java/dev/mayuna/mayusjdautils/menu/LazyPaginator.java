@@ -0,0 +1,216 @@
+package dev.mayuna.mayusjdautils.menu;
+
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveRowedMessage;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Paginator which loads and renders only the shown page. Pages are loaded from {@link PageSource} on background thread, the last
+ * {@link #getCachedPages()} rendered pages are kept and the next page is prefetched while the current one is shown.<br>
+ * One paginator can create any number of messages (see {@link #create()}), every message has its own current page and all of them share the
+ * cache. Total number of items is read from {@link PageSource#count()} once, when the paginator is created - if the source changes, call
+ * {@link #invalidate()}.
+ *
+ * @param <T> Type of items
+ */
+public class LazyPaginator<T> extends Menu {
+
+    private final PageSource<T> pageSource;
+    private final PageRenderer<T> pageRenderer;
+    private final int pageSize;
+    private volatile long totalCount;
+
+    private final Map<Integer, CompletableFuture<RenderedPage>> renderedPages = Collections.synchronizedMap(new LinkedHashMap<Integer, CompletableFuture<RenderedPage>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<RenderedPage>> eldest) {
+            return size() > cachedPages;
+        }
+    });
+
+    // Settings
+    private @Getter @Setter int cachedPages = 5;
+    private @Getter @Setter boolean prefetch = true;
+
+    /**
+     * Creates {@link LazyPaginator}
+     *
+     * @param pageSource   Non-null {@link PageSource}
+     * @param pageRenderer Non-null {@link PageRenderer}
+     * @param pageSize     Number of items per page
+     */
+    public LazyPaginator(@NonNull PageSource<T> pageSource, @NonNull PageRenderer<T> pageRenderer, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive!");
+        }
+
+        this.pageSource = pageSource;
+        this.pageRenderer = pageRenderer;
+        this.pageSize = pageSize;
+        this.totalCount = pageSource.count();
+    }
+
+    /**
+     * Creates new {@link InteractiveRowedMessage} showing the first page. The first page is loaded on the calling thread if it is not cached.
+     * Send the message as any other {@link InteractiveRowedMessage}.
+     *
+     * @return Non-null {@link InteractiveRowedMessage}
+     */
+    @Override
+    public @NonNull InteractiveRowedMessage create() {
+        return new View().create();
+    }
+
+    /**
+     * Returns number of pages
+     *
+     * @return Number of pages or -1 if the {@link PageSource} does not know number of its items
+     */
+    public int getPageCount() {
+        long totalCount = this.totalCount;
+
+        if (totalCount < 0) {
+            return -1;
+        }
+
+        return (int) Math.max(1, (totalCount + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Drops all rendered pages and reads number of items from {@link PageSource#count()} again
+     */
+    public void invalidate() {
+        renderedPages.clear();
+        totalCount = pageSource.count();
+    }
+
+    private CompletableFuture<RenderedPage> getRenderedPage(int pageIndex) {
+        CompletableFuture<RenderedPage> future = renderedPages.computeIfAbsent(pageIndex, index -> CompletableFuture.supplyAsync(() -> render(index), MenuLoader.EXECUTOR));
+
+        future.whenComplete((renderedPage, throwable) -> {
+            if (throwable != null) {
+                renderedPages.remove(pageIndex, future);
+            }
+        });
+
+        return future;
+    }
+
+    private RenderedPage render(int pageIndex) {
+        long offset = (long) pageIndex * pageSize;
+        Slice<T> slice = loadSlice(pageSource, offset, pageSize);
+
+        Page<T> page = new Page<>(pageIndex, offset, getPageCount(), Collections.unmodifiableList(slice.getItems()));
+        return new RenderedPage(pageRenderer.render(page).build(), slice.hasNext());
+    }
+
+    private void prefetch(int pageIndex) {
+        if (prefetch) {
+            getRenderedPage(pageIndex);
+        }
+    }
+
+    /**
+     * Renders page of items into a message
+     *
+     * @param <T> Type of items
+     */
+    @FunctionalInterface
+    public interface PageRenderer<T> {
+
+        /**
+         * Renders specified page. Called on menu loader thread.
+         *
+         * @param page Non-null {@link Page}
+         *
+         * @return Non-null {@link MessageEditBuilder} with content of the page
+         */
+        MessageEditBuilder render(Page<T> page);
+    }
+
+    /**
+     * Loaded page of items
+     *
+     * @param <T> Type of items
+     */
+    @Getter
+    public static final class Page<T> {
+
+        private final int index;
+        private final long offset; // Index of the first item on this page
+        private final int pageCount; // -1 if unknown
+        private final List<T> items;
+
+        private Page(int index, long offset, int pageCount, List<T> items) {
+            this.index = index;
+            this.offset = offset;
+            this.pageCount = pageCount;
+            this.items = items;
+        }
+    }
+
+    private static final class RenderedPage {
+
+        private final MessageEditData messageEditData;
+        private final boolean hasNext;
+
+        private RenderedPage(MessageEditData messageEditData, boolean hasNext) {
+            this.messageEditData = messageEditData;
+            this.hasNext = hasNext;
+        }
+    }
+
+    /**
+     * Single message created by the paginator
+     */
+    private final class View {
+
+        private final Interaction firstInteraction = Interaction.asButton(ButtonStyle.SECONDARY, Emoji.fromUnicode("⏮"));
+        private final Interaction previousInteraction = Interaction.asButton(ButtonStyle.SECONDARY, Emoji.fromUnicode("◀"));
+        private final Interaction nextInteraction = Interaction.asButton(ButtonStyle.SECONDARY, Emoji.fromUnicode("▶"));
+        private final Interaction lastInteraction = Interaction.asButton(ButtonStyle.SECONDARY, Emoji.fromUnicode("⏭"));
+
+        private final Navigation<RenderedPage> navigation = new Navigation<>(LazyPaginator.this::getRenderedPage, renderedPage -> true, this::apply);
+        private InteractiveRowedMessage interactiveRowedMessage;
+        private boolean hasNext; // Guarded by navigation
+
+        private InteractiveRowedMessage create() {
+            RenderedPage renderedPage = getRenderedPage(0).join();
+
+            InteractiveRowedMessage.Builder builder = InteractiveRowedMessage.builder(new MessageEditBuilder().applyData(renderedPage.messageEditData))
+                                                                             .onInteraction(0, firstInteraction, event -> navigation.navigate(event, page -> 0))
+                                                                             .onInteraction(0, previousInteraction, event -> navigation.navigate(event, page -> Math.max(0, page - 1)))
+                                                                             .onInteraction(0, nextInteraction, event -> navigation.navigate(event, page -> hasNext ? page + 1 : page));
+
+            if (getPageCount() != -1) {
+                builder.onInteraction(0, lastInteraction, event -> navigation.navigate(event, page -> Math.max(0, getPageCount() - 1)));
+            }
+
+            interactiveRowedMessage = builder.build();
+            navigation.show(interactiveRowedMessage, renderedPage, 0);
+            return interactiveRowedMessage;
+        }
+
+        private void apply(RenderedPage renderedPage, int pageIndex) {
+            hasNext = renderedPage.hasNext;
+
+            interactiveRowedMessage.setMessageEditBuilder(new MessageEditBuilder().applyData(renderedPage.messageEditData));
+            interactiveRowedMessage.setButtonDisabled(firstInteraction, pageIndex == 0)
+                                   .setButtonDisabled(previousInteraction, pageIndex == 0)
+                                   .setButtonDisabled(nextInteraction, !renderedPage.hasNext)
+                                   .setButtonDisabled(lastInteraction, !renderedPage.hasNext);
+
+            if (renderedPage.hasNext) {
+                prefetch(pageIndex + 1);
+            }
+        }
+    }
+}
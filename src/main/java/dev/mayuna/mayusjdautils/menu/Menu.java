@@ -1,17 +1,182 @@
 package dev.mayuna.mayusjdautils.menu;
 
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
 import dev.mayuna.mayusjdautils.interactive.components.InteractiveRowedMessage;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 
 /**
  * Simple class to create basic template for menus
  */
 public abstract class Menu {
 
+    // Settings
+    private @Getter @Setter @NonNull String loadFailedMessage = "Could not load the items, please try again later.";
+
     /**
      * Creates a new {@link InteractiveRowedMessage}
      *
      * @return {@link InteractiveRowedMessage}
      */
     protected abstract @NonNull InteractiveRowedMessage create();
+
+    /**
+     * Loads items from specified {@link PageSource} together with one more item, which tells whether there are more items
+     *
+     * @param pageSource Non-null {@link PageSource}
+     * @param offset     Index of the first item
+     * @param limit      Maximum number of items
+     * @param <T>        Type of items
+     *
+     * @return Non-null {@link Slice}
+     *
+     * @throws CompletionException If the {@link PageSource} failed
+     */
+    protected static <T> Slice<T> loadSlice(@NonNull PageSource<T> pageSource, long offset, int limit) {
+        List<T> items;
+
+        try {
+            items = pageSource.load(offset, limit + 1);
+        } catch (Exception exception) {
+            throw new CompletionException(exception);
+        }
+
+        boolean hasNext = items.size() > limit;
+        return new Slice<>(hasNext ? items.subList(0, limit) : items, hasNext);
+    }
+
+    /**
+     * Items loaded by {@link #loadSlice(PageSource, long, int)}
+     *
+     * @param <T> Type of items
+     */
+    protected static final class Slice<T> {
+
+        private final List<T> items;
+        private final boolean hasNext;
+
+        private Slice(List<T> items, boolean hasNext) {
+            this.items = items;
+            this.hasNext = hasNext;
+        }
+
+        /**
+         * Returns loaded items
+         *
+         * @return Non-null {@link List} of items
+         */
+        public List<T> getItems() {
+            return items;
+        }
+
+        /**
+         * Determines if there are items after the loaded ones
+         *
+         * @return True if there are more items
+         */
+        public boolean hasNext() {
+            return hasNext;
+        }
+    }
+
+    /**
+     * Moves one menu message between states (pages, windows) which are loaded in background. Only the last requested state is shown - states
+     * which finish loading after another one was requested are dropped. When loading fails, the user receives ephemeral
+     * {@link #getLoadFailedMessage()} and the shown state stays.
+     *
+     * @param <S> Type of states
+     */
+    protected final class Navigation<S> {
+
+        private final IntFunction<CompletableFuture<S>> loader;
+        private final Predicate<S> showable;
+        private final ObjIntConsumer<S> applier;
+        private InteractiveRowedMessage interactiveRowedMessage;
+        private int shownIndex; // Guarded by this
+        private int requestedIndex; // Guarded by this, index which should be shown once loaded
+
+        /**
+         * Creates {@link Navigation}
+         *
+         * @param loader   Non-null function loading state with specified index
+         * @param showable Non-null predicate determining if loaded state can be shown, for example if it is not empty
+         * @param applier  Non-null consumer applying state with specified index to the message, called while holding lock of this navigation
+         */
+        public Navigation(@NonNull IntFunction<CompletableFuture<S>> loader, @NonNull Predicate<S> showable, @NonNull ObjIntConsumer<S> applier) {
+            this.loader = loader;
+            this.showable = showable;
+            this.applier = applier;
+        }
+
+        /**
+         * Shows specified state without editing the message, used for the first state
+         *
+         * @param interactiveRowedMessage Non-null {@link InteractiveRowedMessage} which is navigated
+         * @param state                   Non-null state
+         * @param index                   Index of the state
+         */
+        public synchronized void show(@NonNull InteractiveRowedMessage interactiveRowedMessage, @NonNull S state, int index) {
+            this.interactiveRowedMessage = interactiveRowedMessage;
+            applier.accept(state, index);
+            shownIndex = index;
+            requestedIndex = index;
+        }
+
+        /**
+         * Acknowledges the interaction, loads the state with target index and edits the message once it is loaded
+         *
+         * @param event       Non-null {@link GroupedInteractionEvent} of the navigation button
+         * @param targetIndex Non-null function computing target index from the last requested index
+         */
+        public void navigate(@NonNull GroupedInteractionEvent event, @NonNull IntUnaryOperator targetIndex) {
+            event.deferEdit().queue();
+
+            InteractionHook interactionHook = event.getInteractionHook();
+            int index;
+
+            synchronized (this) {
+                index = targetIndex.applyAsInt(requestedIndex);
+                requestedIndex = index;
+            }
+
+            loader.apply(index).whenComplete((state, throwable) -> onLoaded(interactionHook, index, state, throwable));
+        }
+
+        private void onLoaded(InteractionHook interactionHook, int index, S state, Throwable throwable) {
+            boolean applied = false;
+
+            synchronized (this) {
+                if (requestedIndex != index) {
+                    return; // User already requested another state
+                }
+
+                if (throwable != null || !showable.test(state)) {
+                    // Further navigation continues from the shown state
+                    requestedIndex = shownIndex;
+                } else {
+                    applier.accept(state, index);
+                    shownIndex = index;
+                    applied = true;
+                }
+            }
+
+            if (throwable != null) {
+                interactionHook.sendMessage(loadFailedMessage).setEphemeral(true).queue(null, ignored -> {
+                    // Ignored
+                });
+            } else if (applied) {
+                interactiveRowedMessage.editOriginalCoalesced(interactionHook).exceptionally(ignored -> null); // Message may be deleted
+            }
+        }
+    }
 }
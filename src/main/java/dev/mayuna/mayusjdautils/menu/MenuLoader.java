@@ -0,0 +1,19 @@
+package dev.mayuna.mayusjdautils.menu;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Background threads on which menus load their items
+ */
+final class MenuLoader {
+
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "Menu-Loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private MenuLoader() {
+    }
+}
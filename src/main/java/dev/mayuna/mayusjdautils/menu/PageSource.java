@@ -0,0 +1,82 @@
+package dev.mayuna.mayusjdautils.menu;
+
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Source of items for {@link LazyPaginator}. Only the requested range is loaded, so the source can be backed by database cursor, stream or
+ * any other data which should not be materialized at once.
+ *
+ * @param <T> Type of items
+ */
+@FunctionalInterface
+public interface PageSource<T> {
+
+    /**
+     * Creates {@link PageSource} of specified {@link List}
+     *
+     * @param list Non-null {@link List}
+     * @param <T>  Type of items
+     *
+     * @return Non-null {@link PageSource}
+     */
+    static <T> PageSource<T> of(@NonNull List<T> list) {
+        return new PageSource<T>() {
+            @Override
+            public List<T> load(long offset, int limit) {
+                if (offset >= list.size()) {
+                    return Collections.emptyList();
+                }
+
+                return list.subList((int) offset, (int) Math.min(list.size(), offset + limit));
+            }
+
+            @Override
+            public long count() {
+                return list.size();
+            }
+        };
+    }
+
+    /**
+     * Creates {@link PageSource} of streams. New stream is opened for every loaded page and only items of the page are collected from it.
+     *
+     * @param streamSupplier Non-null supplier of {@link Stream}, opened and closed for every page
+     * @param <T>            Type of items
+     *
+     * @return Non-null {@link PageSource}
+     */
+    static <T> PageSource<T> ofStream(@NonNull Supplier<Stream<T>> streamSupplier) {
+        return (offset, limit) -> {
+            try (Stream<T> stream = streamSupplier.get()) {
+                return stream.skip(offset).limit(limit).collect(Collectors.toList());
+            }
+        };
+    }
+
+    /**
+     * Loads items in specified range. Called on menu loader thread.
+     *
+     * @param offset Index of the first item
+     * @param limit  Maximum number of items
+     *
+     * @return Non-null {@link List} of at most limit items, fewer if the source has no more items
+     *
+     * @throws Exception If the items could not be loaded
+     */
+    List<T> load(long offset, int limit) throws Exception;
+
+    /**
+     * Returns total number of items
+     *
+     * @return Number of items or -1 if unknown
+     */
+    default long count() {
+        return -1;
+    }
+}
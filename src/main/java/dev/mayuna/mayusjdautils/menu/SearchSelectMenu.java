@@ -0,0 +1,187 @@
+package dev.mayuna.mayusjdautils.menu;
+
+import dev.mayuna.mayusjdautils.interactive.ComponentIds;
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveModal;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveRowedMessage;
+import dev.mayuna.mayusjdautils.util.TrigramIndex;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.interactions.components.text.TextInput;
+import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * String select menu over a large catalog, filled by search. The search button opens {@link InteractiveModal} for a query, which is looked
+ * up in {@link TrigramIndex} - the best {@link StringSelectMenu#OPTIONS_MAX_AMOUNT} matches replace options of the select menu. Before the
+ * first search, the select menu shows the first entries of the catalog.<br>
+ * Build the {@link TrigramIndex} once per catalog and share it between menus.
+ *
+ * @param <T> Type of entries
+ */
+public class SearchSelectMenu<T> extends Menu {
+
+    private static final String QUERY_INPUT_ID = "query";
+
+    private final MessageEditBuilder messageEditBuilder;
+    private final TrigramIndex<T> trigramIndex;
+    private final Function<T, SelectOption> optionRenderer;
+    private final BiConsumer<StringSelectInteractionEvent, List<T>> onSelected;
+
+    // Settings
+    private @Getter @Setter String placeholder;
+    private @Getter @Setter String modalTitle = "Search";
+    private @Getter @Setter String queryLabel = "Query";
+    private @Getter @Setter String noResultsMessage = "Nothing was found.";
+
+    /**
+     * Creates {@link SearchSelectMenu}
+     *
+     * @param messageEditBuilder Non-null {@link MessageEditBuilder} with content of the message
+     * @param trigramIndex       Non-null {@link TrigramIndex} of the catalog
+     * @param optionRenderer     Non-null function rendering entry into {@link SelectOption}, value of the option is replaced
+     * @param onSelected         Non-null handler of selected entries
+     */
+    public SearchSelectMenu(@NonNull MessageEditBuilder messageEditBuilder, @NonNull TrigramIndex<T> trigramIndex, @NonNull Function<T, SelectOption> optionRenderer, @NonNull BiConsumer<StringSelectInteractionEvent, List<T>> onSelected) {
+        this.messageEditBuilder = messageEditBuilder;
+        this.trigramIndex = trigramIndex;
+        this.optionRenderer = optionRenderer;
+        this.onSelected = onSelected;
+    }
+
+    /**
+     * Creates new {@link InteractiveRowedMessage} with the select menu and search button
+     *
+     * @return Non-null {@link InteractiveRowedMessage}
+     *
+     * @throws IllegalStateException If the {@link TrigramIndex} has no entries
+     */
+    @Override
+    public @NonNull InteractiveRowedMessage create() {
+        if (trigramIndex.size() == 0) {
+            throw new IllegalStateException("Trigram index has no entries!");
+        }
+
+        return new View().create();
+    }
+
+    /**
+     * Single message created by the select menu
+     */
+    private final class View {
+
+        private final Interaction searchInteraction = Interaction.asButton(ButtonStyle.PRIMARY, modalTitle, Emoji.fromUnicode("🔍"));
+        private final String valuePrefix = ComponentIds.generate() + ":"; // Values of other menus' options do not collide in the registry
+
+        private InteractiveRowedMessage interactiveRowedMessage;
+        private volatile Results<T> results;
+
+        private InteractiveRowedMessage create() {
+            List<T> entries = trigramIndex.getEntries();
+            Results<T> results = createResults(0, entries.subList(0, Math.min(entries.size(), StringSelectMenu.OPTIONS_MAX_AMOUNT)));
+
+            interactiveRowedMessage = InteractiveRowedMessage.builder(messageEditBuilder)
+                                                             .addStringSelectMenu(0, placeholder, selectMenu -> selectMenu.addOptions(results.selectOptions), this::select)
+                                                             .onInteraction(1, searchInteraction, this::openSearch)
+                                                             .build();
+            this.results = results;
+            return interactiveRowedMessage;
+        }
+
+        private Results<T> createResults(int generation, List<T> entries) {
+            List<SelectOption> selectOptions = new ArrayList<>(entries.size());
+
+            for (int i = 0; i < entries.size(); i++) {
+                // Value identifies the menu, results and index in them, so selection from outdated results is recognized
+                selectOptions.add(optionRenderer.apply(entries.get(i)).withValue(valuePrefix + generation + ":" + i));
+            }
+
+            return new Results<>(generation, new ArrayList<>(entries), selectOptions);
+        }
+
+        private void openSearch(GroupedInteractionEvent event) {
+            InteractiveModal.createTitled(modalTitle, modal -> {
+                modal.addActionRow(TextInput.create(QUERY_INPUT_ID, queryLabel, TextInputStyle.SHORT).setRequired(true).setMaxLength(100).build());
+            }, this::search).replyModal(event.getButtonInteractionEvent()).queue();
+        }
+
+        private void search(ModalInteractionEvent event) {
+            ModalMapping queryMapping = event.getValue(QUERY_INPUT_ID);
+            List<T> entries = queryMapping == null ? Collections.emptyList()
+                                                   : trigramIndex.search(queryMapping.getAsString(), StringSelectMenu.OPTIONS_MAX_AMOUNT);
+
+            if (entries.isEmpty()) {
+                event.reply(noResultsMessage).setEphemeral(true).queue();
+                return;
+            }
+
+            event.deferEdit().queue();
+
+            synchronized (this) {
+                Results<T> results = createResults(this.results.generation + 1, entries);
+                interactiveRowedMessage.setSelectOptions(0, results.selectOptions);
+                this.results = results;
+            }
+
+            interactiveRowedMessage.editOriginal(event.getHook()).queue();
+        }
+
+        private void select(StringSelectInteractionEvent event) {
+            Results<T> results = this.results;
+            List<T> selectedEntries = new ArrayList<>(event.getValues().size());
+
+            for (String value : event.getValues()) {
+                if (!value.startsWith(valuePrefix)) {
+                    continue;
+                }
+
+                int separatorIndex = value.indexOf(':', valuePrefix.length());
+                int index;
+
+                try {
+                    if (Integer.parseInt(value.substring(valuePrefix.length(), separatorIndex)) != results.generation) {
+                        continue; // Selected from previous results
+                    }
+
+                    index = Integer.parseInt(value.substring(separatorIndex + 1));
+                } catch (NumberFormatException | IndexOutOfBoundsException exception) {
+                    continue;
+                }
+
+                if (index >= 0 && index < results.entries.size()) {
+                    selectedEntries.add(results.entries.get(index));
+                }
+            }
+
+            onSelected.accept(event, Collections.unmodifiableList(selectedEntries));
+        }
+    }
+
+    private static final class Results<T> {
+
+        private final int generation;
+        private final List<T> entries;
+        private final List<SelectOption> selectOptions;
+
+        private Results(int generation, List<T> entries, List<SelectOption> selectOptions) {
+            this.generation = generation;
+            this.entries = entries;
+            this.selectOptions = selectOptions;
+        }
+    }
+}
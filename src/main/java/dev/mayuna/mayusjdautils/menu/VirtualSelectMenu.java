@@ -0,0 +1,199 @@
+package dev.mayuna.mayusjdautils.menu;
+
+import dev.mayuna.mayusjdautils.interactive.ComponentIds;
+import dev.mayuna.mayusjdautils.interactive.Interaction;
+import dev.mayuna.mayusjdautils.interactive.components.InteractiveRowedMessage;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * String select menu over any number of items. Only a window of at most {@link StringSelectMenu#OPTIONS_MAX_AMOUNT} items is loaded from
+ * {@link PageSource} and rendered as {@link SelectOption}s - buttons under the select menu move to the previous or next window. The select
+ * menu has single handler, which receives the selected items of the shown window.
+ *
+ * @param <T> Type of items
+ */
+public class VirtualSelectMenu<T> extends Menu {
+
+    private final MessageEditBuilder messageEditBuilder;
+    private final PageSource<T> pageSource;
+    private final OptionRenderer<T> optionRenderer;
+    private final BiConsumer<StringSelectInteractionEvent, List<T>> onSelected;
+
+    // Settings
+    private @Getter int windowSize = StringSelectMenu.OPTIONS_MAX_AMOUNT;
+    private @Getter @Setter String placeholder;
+
+    /**
+     * Creates {@link VirtualSelectMenu}
+     *
+     * @param messageEditBuilder Non-null {@link MessageEditBuilder} with content of the message
+     * @param pageSource         Non-null {@link PageSource} of items
+     * @param optionRenderer     Non-null {@link OptionRenderer}
+     * @param onSelected         Non-null handler of selected items
+     */
+    public VirtualSelectMenu(@NonNull MessageEditBuilder messageEditBuilder, @NonNull PageSource<T> pageSource, @NonNull OptionRenderer<T> optionRenderer, @NonNull BiConsumer<StringSelectInteractionEvent, List<T>> onSelected) {
+        this.messageEditBuilder = messageEditBuilder;
+        this.pageSource = pageSource;
+        this.optionRenderer = optionRenderer;
+        this.onSelected = onSelected;
+    }
+
+    /**
+     * Sets number of options shown at once
+     *
+     * @param windowSize Number of options, 1 to {@link StringSelectMenu#OPTIONS_MAX_AMOUNT}
+     */
+    public void setWindowSize(int windowSize) {
+        if (windowSize <= 0 || windowSize > StringSelectMenu.OPTIONS_MAX_AMOUNT) {
+            throw new IllegalArgumentException("Window size must be between 1 and " + StringSelectMenu.OPTIONS_MAX_AMOUNT + "!");
+        }
+
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Creates new {@link InteractiveRowedMessage} showing the first window. The first window is loaded on the calling thread.
+     *
+     * @return Non-null {@link InteractiveRowedMessage}
+     *
+     * @throws IllegalStateException If the {@link PageSource} has no items
+     */
+    @Override
+    public @NonNull InteractiveRowedMessage create() {
+        return new View().create();
+    }
+
+    private Window<T> load(String valuePrefix, int windowIndex) {
+        int windowSize = this.windowSize;
+        long offset = (long) windowIndex * windowSize;
+        Slice<T> slice = loadSlice(pageSource, offset, windowSize);
+        List<T> items = slice.getItems();
+        List<SelectOption> selectOptions = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            // Value identifies the menu, window and index in it, so it is unique even if rendered options are not
+            selectOptions.add(optionRenderer.render(items.get(i), offset + i).withValue(valuePrefix + windowIndex + ":" + i));
+        }
+
+        return new Window<>(windowIndex, new ArrayList<>(items), selectOptions, slice.hasNext());
+    }
+
+    /**
+     * Renders item into {@link SelectOption}
+     *
+     * @param <T> Type of items
+     */
+    @FunctionalInterface
+    public interface OptionRenderer<T> {
+
+        /**
+         * Renders specified item. Value of the returned {@link SelectOption} is replaced. Called on menu loader thread, or on the thread
+         * calling {@link #create()} for the first window.
+         *
+         * @param item  Item
+         * @param index Index of the item in {@link PageSource}
+         *
+         * @return Non-null {@link SelectOption}
+         */
+        SelectOption render(T item, long index);
+    }
+
+    private static final class Window<T> {
+
+        private final int index;
+        private final List<T> items;
+        private final List<SelectOption> selectOptions;
+        private final boolean hasNext;
+
+        private Window(int index, List<T> items, List<SelectOption> selectOptions, boolean hasNext) {
+            this.index = index;
+            this.items = items;
+            this.selectOptions = selectOptions;
+            this.hasNext = hasNext;
+        }
+    }
+
+    /**
+     * Single message created by the select menu
+     */
+    private final class View {
+
+        private final Interaction previousInteraction = Interaction.asButton(ButtonStyle.SECONDARY, Emoji.fromUnicode("◀"));
+        private final Interaction nextInteraction = Interaction.asButton(ButtonStyle.SECONDARY, Emoji.fromUnicode("▶"));
+        private final String valuePrefix = ComponentIds.generate() + ":"; // Values of other menus' options do not collide in the registry
+
+        private final Navigation<Window<T>> navigation = new Navigation<>(index -> CompletableFuture.supplyAsync(() -> load(valuePrefix, index), MenuLoader.EXECUTOR),
+                                                                          window -> !window.items.isEmpty(), // Items were removed
+                                                                          (window, index) -> apply(window));
+        private InteractiveRowedMessage interactiveRowedMessage;
+        private volatile Window<T> window;
+
+        private InteractiveRowedMessage create() {
+            Window<T> window = load(valuePrefix, 0);
+
+            if (window.items.isEmpty()) {
+                throw new IllegalStateException("Page source has no items!");
+            }
+
+            interactiveRowedMessage = InteractiveRowedMessage.builder(messageEditBuilder)
+                                                             .addStringSelectMenu(0, placeholder, selectMenu -> selectMenu.addOptions(window.selectOptions), this::select)
+                                                             .onInteraction(1, previousInteraction, event -> navigation.navigate(event, index -> Math.max(0, index - 1)))
+                                                             .onInteraction(1, nextInteraction, event -> navigation.navigate(event, index -> this.window.hasNext ? index + 1 : index))
+                                                             .build();
+            navigation.show(interactiveRowedMessage, window, 0);
+            return interactiveRowedMessage;
+        }
+
+        private void select(StringSelectInteractionEvent event) {
+            Window<T> window = this.window;
+            List<T> selectedItems = new ArrayList<>(event.getValues().size());
+
+            for (String value : event.getValues()) {
+                if (!value.startsWith(valuePrefix)) {
+                    continue;
+                }
+
+                int separatorIndex = value.indexOf(':', valuePrefix.length());
+                int index;
+
+                try {
+                    if (Integer.parseInt(value.substring(valuePrefix.length(), separatorIndex)) != window.index) {
+                        continue; // Selected in previously shown window
+                    }
+
+                    index = Integer.parseInt(value.substring(separatorIndex + 1));
+                } catch (NumberFormatException | IndexOutOfBoundsException exception) {
+                    continue;
+                }
+
+                if (index >= 0 && index < window.items.size()) {
+                    selectedItems.add(window.items.get(index));
+                }
+            }
+
+            onSelected.accept(event, Collections.unmodifiableList(selectedItems));
+        }
+
+        private void apply(Window<T> window) {
+            this.window = window;
+
+            interactiveRowedMessage.setSelectOptions(0, window.selectOptions)
+                                   .setButtonDisabled(previousInteraction, window.index == 0)
+                                   .setButtonDisabled(nextInteraction, !window.hasNext);
+        }
+    }
+}
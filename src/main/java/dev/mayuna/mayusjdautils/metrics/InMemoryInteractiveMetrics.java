@@ -0,0 +1,104 @@
+package dev.mayuna.mayusjdautils.metrics;
+
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link InteractiveMetrics} which keeps measurements in memory. Latencies are kept in {@link LatencyHistogram}s, so they can be read as
+ * percentiles or exported to your monitoring system periodically.
+ */
+public final class InMemoryInteractiveMetrics implements InteractiveMetrics {
+
+    private final @Getter LatencyHistogram handlerStartLatencies = new LatencyHistogram();
+    private final @Getter LatencyHistogram handlerEndLatencies = new LatencyHistogram();
+    private final @Getter LatencyHistogram expirationLags = new LatencyHistogram();
+    private final @Getter LatencyHistogram queueDepths = new LatencyHistogram();
+
+    private final Map<Class<?>, LongAdder> liveInteractables = new ConcurrentHashMap<>();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder unmatchedEvents = new LongAdder();
+
+    @Override
+    public void recordHandlerStartLatency(long latencyNanos) {
+        handlerStartLatencies.record(latencyNanos);
+    }
+
+    @Override
+    public void recordHandlerEndLatency(long latencyNanos) {
+        handlerEndLatencies.record(latencyNanos);
+    }
+
+    @Override
+    public void onInteractableRegistered(Interactable interactable) {
+        liveInteractables.computeIfAbsent(interactable.getClass(), ignored -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onInteractableUnregistered(Interactable interactable) {
+        liveInteractables.computeIfAbsent(interactable.getClass(), ignored -> new LongAdder()).decrement();
+    }
+
+    @Override
+    public void recordExpiration(Interactable interactable, long lagMillis) {
+        expirations.increment();
+        expirationLags.record(lagMillis);
+    }
+
+    @Override
+    public void recordQueueDepth(int depth) {
+        queueDepths.record(depth);
+    }
+
+    @Override
+    public void onUnmatchedEvent(GroupedInteractionEvent interactionEvent) {
+        unmatchedEvents.increment();
+    }
+
+    /**
+     * Returns number of registered {@link Interactable}s of specified type
+     *
+     * @param type Non-null type, for example {@code InteractiveMessage.class}
+     *
+     * @return Number of registered {@link Interactable}s
+     */
+    public long getLiveInteractables(@NonNull Class<? extends Interactable> type) {
+        LongAdder count = liveInteractables.get(type);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Returns number of registered {@link Interactable}s by their type
+     *
+     * @return Non-null {@link Map} of types and counts
+     */
+    public Map<Class<?>, Long> getLiveInteractables() {
+        Map<Class<?>, Long> counts = new HashMap<>();
+        liveInteractables.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Returns number of expired {@link Interactable}s
+     *
+     * @return Number of expired {@link Interactable}s
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * Returns number of events which were not owned by any {@link Interactable}
+     *
+     * @return Number of unmatched events
+     */
+    public long getUnmatchedEvents() {
+        return unmatchedEvents.sum();
+    }
+}
@@ -0,0 +1,83 @@
+package dev.mayuna.mayusjdautils.metrics;
+
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.InteractableRegistry;
+import dev.mayuna.mayusjdautils.interactive.InteractiveListener;
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+
+/**
+ * Receives measurements of {@link InteractiveListener} and {@link InteractableRegistry}. Set your implementation with
+ * {@link InteractableRegistry#setMetrics(InteractiveMetrics)}, by default {@link #noop()} is used.<br>
+ * Methods are called from event processing and expiration threads, so implementations must be thread-safe and should return quickly.
+ */
+public interface InteractiveMetrics {
+
+    /**
+     * Returns {@link InteractiveMetrics} which ignores all measurements
+     *
+     * @return Non-null {@link InteractiveMetrics}
+     */
+    static InteractiveMetrics noop() {
+        return NoOpInteractiveMetrics.INSTANCE;
+    }
+
+    /**
+     * Determines if the measurements are collected. When false, the measured code skips reading clocks and other measurement work.
+     *
+     * @return True if enabled
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called when handler of an event starts
+     *
+     * @param latencyNanos Nanoseconds since {@link InteractiveListener} received the event
+     */
+    void recordHandlerStartLatency(long latencyNanos);
+
+    /**
+     * Called when handler of an event ends, even exceptionally
+     *
+     * @param latencyNanos Nanoseconds since {@link InteractiveListener} received the event
+     */
+    void recordHandlerEndLatency(long latencyNanos);
+
+    /**
+     * Called when {@link Interactable} is added to the registry
+     *
+     * @param interactable Non-null {@link Interactable}
+     */
+    void onInteractableRegistered(Interactable interactable);
+
+    /**
+     * Called when {@link Interactable} is removed from the registry, including when it expires
+     *
+     * @param interactable Non-null {@link Interactable}
+     */
+    void onInteractableUnregistered(Interactable interactable);
+
+    /**
+     * Called when {@link Interactable} expires
+     *
+     * @param interactable Non-null {@link Interactable}
+     * @param lagMillis    Milliseconds between its expiration time and the moment it was actually expired
+     */
+    void recordExpiration(Interactable interactable, long lagMillis);
+
+    /**
+     * Called when event is dispatched, with number of tasks waiting for the event processor executor. Not called when the depth is unknown,
+     * for example with virtual threads.
+     *
+     * @param depth Number of waiting tasks
+     */
+    void recordQueueDepth(int depth);
+
+    /**
+     * Called when no {@link Interactable} owns the interacted component
+     *
+     * @param interactionEvent Non-null {@link GroupedInteractionEvent}
+     */
+    void onUnmatchedEvent(GroupedInteractionEvent interactionEvent);
+}
@@ -0,0 +1,154 @@
+package dev.mayuna.mayusjdautils.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values with fixed memory usage, in style of HdrHistogram. Values below 64 are counted exactly, larger
+ * values are counted in log-linear buckets with relative error below 1.6%.<br>
+ * Reads are not atomic with concurrent recording, so percentiles may be slightly off while values are being recorded.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKET_COUNT + BUCKET_COUNT * SUB_BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * Records value. Negative values are recorded as zero.
+     *
+     * @param value Value
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        counts.incrementAndGet(getIndex(value));
+        totalCount.increment();
+        totalSum.add(value);
+
+        if (value < min.get()) {
+            min.accumulateAndGet(value, Math::min);
+        }
+
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Returns number of recorded values
+     *
+     * @return Number of recorded values
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Returns the lowest recorded value
+     *
+     * @return The lowest recorded value, zero if there are none
+     */
+    public long getMin() {
+        long value = min.get();
+        return value == Long.MAX_VALUE ? 0 : value;
+    }
+
+    /**
+     * Returns the highest recorded value
+     *
+     * @return The highest recorded value, zero if there are none
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns mean of recorded values
+     *
+     * @return Mean, zero if there are no values
+     */
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalSum.sum() / count;
+    }
+
+    /**
+     * Returns value at specified percentile. The value is the highest value which falls into the same bucket.
+     *
+     * @param percentile Percentile between 0 and 100
+     *
+     * @return Value at the percentile, zero if there are no values
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[counts.length()];
+        long count = 0;
+
+        for (int index = 0; index < snapshot.length; index++) {
+            snapshot[index] = counts.get(index);
+            count += snapshot[index];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long currentCount = 0;
+
+        for (int index = 0; index < snapshot.length; index++) {
+            currentCount += snapshot[index];
+
+            if (currentCount >= targetCount) {
+                return Math.min(getHighestValue(index), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently may be lost.
+     */
+    public void reset() {
+        for (int index = 0; index < counts.length(); index++) {
+            counts.set(index, 0);
+        }
+
+        totalCount.reset();
+        totalSum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    private static int getIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.mayuna.mayusjdautils.metrics;
+
+import dev.mayuna.mayusjdautils.interactive.GroupedInteractionEvent;
+import dev.mayuna.mayusjdautils.interactive.components.Interactable;
+
+/**
+ * {@link InteractiveMetrics} which ignores all measurements, see {@link InteractiveMetrics#noop()}
+ */
+final class NoOpInteractiveMetrics implements InteractiveMetrics {
+
+    static final NoOpInteractiveMetrics INSTANCE = new NoOpInteractiveMetrics();
+
+    private NoOpInteractiveMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordHandlerStartLatency(long latencyNanos) {
+    }
+
+    @Override
+    public void recordHandlerEndLatency(long latencyNanos) {
+    }
+
+    @Override
+    public void onInteractableRegistered(Interactable interactable) {
+    }
+
+    @Override
+    public void onInteractableUnregistered(Interactable interactable) {
+    }
+
+    @Override
+    public void recordExpiration(Interactable interactable, long lagMillis) {
+    }
+
+    @Override
+    public void recordQueueDepth(int depth) {
+    }
+
+    @Override
+    public void onUnmatchedEvent(GroupedInteractionEvent interactionEvent) {
+    }
+}
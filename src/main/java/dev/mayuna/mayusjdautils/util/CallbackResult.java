@@ -4,5 +4,6 @@ public enum CallbackResult {
     SENT,
     EDITED,
     RETRIEVED,
-    NOTHING
+    NOTHING,
+    UNCHANGED
 }
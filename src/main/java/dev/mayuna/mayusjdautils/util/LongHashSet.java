@@ -0,0 +1,230 @@
+package dev.mayuna.mayusjdautils.util;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive longs using open addressing with linear probing, so checking whether it contains a value does not box or allocate.<br>
+ * Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private long[] slots;
+    private boolean containsEmpty;
+    private int size;
+
+    /**
+     * Creates empty {@link LongHashSet}
+     */
+    public LongHashSet() {
+        this(MINIMUM_CAPACITY / 2);
+    }
+
+    /**
+     * Creates empty {@link LongHashSet} which can hold specified number of values without resizing
+     *
+     * @param expectedSize Expected number of values
+     */
+    public LongHashSet(int expectedSize) {
+        slots = new long[getCapacity(expectedSize)];
+    }
+
+    /**
+     * Creates copy of specified {@link LongHashSet}
+     *
+     * @param other Non-null {@link LongHashSet}
+     */
+    public LongHashSet(LongHashSet other) {
+        slots = other.slots.clone();
+        containsEmpty = other.containsEmpty;
+        size = other.size;
+    }
+
+    /**
+     * Adds value
+     *
+     * @param value Value
+     *
+     * @return True if the value was added, false if it was already present
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                return false;
+            }
+
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+
+        int index = findSlot(slots, value);
+
+        if (slots[index] == value) {
+            return false;
+        }
+
+        slots[index] = value;
+        size++;
+
+        // Keeps load factor at most 1/2
+        if (size * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes value
+     *
+     * @param value Value
+     *
+     * @return True if the value was removed, false if it was not present
+     */
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!containsEmpty) {
+                return false;
+            }
+
+            containsEmpty = false;
+            size--;
+            return true;
+        }
+
+        int mask = slots.length - 1;
+        int index = findSlot(slots, value);
+
+        if (slots[index] != value) {
+            return false;
+        }
+
+        slots[index] = EMPTY;
+        size--;
+
+        // Shifts following values of the probe sequence back, so lookups do not stop at the freed slot
+        int nextIndex = (index + 1) & mask;
+
+        while (slots[nextIndex] != EMPTY) {
+            long nextValue = slots[nextIndex];
+            int homeIndex = hash(nextValue) & mask;
+
+            if (((nextIndex - homeIndex) & mask) >= ((nextIndex - index) & mask)) {
+                slots[index] = nextValue;
+                slots[nextIndex] = EMPTY;
+                index = nextIndex;
+            }
+
+            nextIndex = (nextIndex + 1) & mask;
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines if the set contains value
+     *
+     * @param value Value
+     *
+     * @return True if present
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+
+        long[] slots = this.slots;
+        return slots[findSlot(slots, value)] == value;
+    }
+
+    /**
+     * Returns number of values
+     *
+     * @return Number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the set is empty
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values
+     */
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        containsEmpty = false;
+        size = 0;
+    }
+
+    /**
+     * Returns all values in unspecified order
+     *
+     * @return Non-null array of values
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        int index = 0;
+
+        if (containsEmpty) {
+            values[index++] = EMPTY;
+        }
+
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                values[index++] = slot;
+            }
+        }
+
+        return values;
+    }
+
+    private void resize(int capacity) {
+        long[] newSlots = new long[capacity];
+
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                newSlots[findSlot(newSlots, slot)] = slot;
+            }
+        }
+
+        slots = newSlots;
+    }
+
+    private static int findSlot(long[] slots, long value) {
+        int mask = slots.length - 1;
+        int index = hash(value) & mask;
+
+        while (slots[index] != EMPTY && slots[index] != value) {
+            index = (index + 1) & mask;
+        }
+
+        return index;
+    }
+
+    private static int hash(long value) {
+        // Mixes the bits, so snowflake IDs with similar timestamps are spread over the slots
+        value *= 0x9E3779B97F4A7C15L;
+        return (int) (value ^ (value >>> 32));
+    }
+
+    private static int getCapacity(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.mayuna.mayusjdautils.util;
+
+import lombok.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lock-free mailbox which runs submitted tasks one at a time in submission order. The mailbox does not own any thread - when a task is
+ * submitted to an idle mailbox, a drain task is submitted to the supplied {@link Executor} or the mailbox is drained by the submitting thread.
+ * Different mailboxes run in parallel.
+ */
+public final class Mailbox {
+
+    private static final int MAX_TASKS_PER_DRAIN = 64;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Submits task to the mailbox. If the mailbox is idle, it starts draining on specified {@link Executor}.
+     *
+     * @param task     Non-null task
+     * @param executor Non-null {@link Executor} which will drain the mailbox, if it is idle
+     */
+    public void execute(@NonNull Runnable task, @NonNull Executor executor) {
+        tasks.add(task);
+        scheduleDrain(executor);
+    }
+
+    /**
+     * Submits task to the mailbox. If the mailbox is idle, it is drained on the calling thread until it is empty, otherwise the task is run by
+     * the thread currently draining the mailbox.
+     *
+     * @param task Non-null task
+     */
+    public void execute(@NonNull Runnable task) {
+        tasks.add(task);
+
+        // Task submitted after the last poll could have seen the mailbox scheduled
+        while (scheduled.compareAndSet(false, true)) {
+            runTasks(Integer.MAX_VALUE);
+            scheduled.set(false);
+
+            if (tasks.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns number of tasks waiting in the mailbox
+     *
+     * @return Number of waiting tasks
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    private void scheduleDrain(Executor executor) {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(executor));
+            } catch (RuntimeException exception) {
+                scheduled.set(false);
+                throw exception;
+            }
+        }
+    }
+
+    private void drain(Executor executor) {
+        // Limited number of tasks per drain, so one busy mailbox does not hold the thread forever
+        runTasks(MAX_TASKS_PER_DRAIN);
+        scheduled.set(false);
+
+        if (!tasks.isEmpty()) {
+            scheduleDrain(executor);
+        }
+    }
+
+    private void runTasks(int maxTasks) {
+        Runnable task;
+        int processedTasks = 0;
+
+        while (processedTasks++ < maxTasks && (task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+        }
+    }
+}
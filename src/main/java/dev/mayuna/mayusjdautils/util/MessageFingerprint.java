@@ -0,0 +1,69 @@
+package dev.mayuna.mayusjdautils.util;
+
+import lombok.NonNull;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+
+import java.util.Collection;
+
+/**
+ * Computes 64-bit fingerprints of message edits, so edits which would not change the message can be skipped without a request to Discord.
+ * The fingerprint covers everything sent to Discord - content, embeds, components, allowed mentions and attachment metadata.
+ */
+public final class MessageFingerprint {
+
+    /**
+     * Fingerprint of edits which cannot be fingerprinted, for example since they upload files. Never equal to another fingerprint.
+     */
+    public static final long NONE = 0;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private MessageFingerprint() {
+    }
+
+    /**
+     * Computes fingerprint of specified {@link MessageEditData}
+     *
+     * @param messageEditData Non-null {@link MessageEditData}
+     *
+     * @return Fingerprint, {@link #NONE} if the edit uploads files
+     */
+    public static long of(@NonNull MessageEditData messageEditData) {
+        return of(messageEditData, null);
+    }
+
+    /**
+     * Computes fingerprint of specified {@link MessageEditData} with components which will replace its components
+     *
+     * @param messageEditData Non-null {@link MessageEditData}
+     * @param components      Nullable components set on the edit action
+     *
+     * @return Fingerprint, {@link #NONE} if the edit uploads files
+     */
+    public static long of(@NonNull MessageEditData messageEditData, Collection<? extends LayoutComponent> components) {
+        if (!messageEditData.getFiles().isEmpty()) {
+            return NONE; // File contents are not known
+        }
+
+        long hash = hash(FNV_OFFSET_BASIS, messageEditData.toData().toJson());
+
+        if (components != null) {
+            for (LayoutComponent component : components) {
+                hash = hash(hash, component.toData().toJson());
+            }
+        }
+
+        return hash == NONE ? 1 : hash;
+    }
+
+    private static long hash(long hash, byte[] bytes) {
+        for (byte value : bytes) {
+            hash ^= value & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,263 @@
+package dev.mayuna.mayusjdautils.util;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Immutable compressed trie which answers prefix queries with precomputed results. Every node keeps the {@link #getResultLimit()} values with
+ * the highest weight among its keys, so completing a prefix only walks the prefix and returns the stored list - it does not allocate nor
+ * depend on the number of matching keys.<br>
+ * Keys are case-insensitive. One value can be added under multiple keys (for example under every word of its name), it is returned only once.
+ * The index can be shared by any number of threads.
+ *
+ * @param <T> Type of values
+ */
+public final class PrefixIndex<T> {
+
+    private final Node<T> root;
+    private final @Getter int resultLimit;
+    private final @Getter int size;
+
+    private PrefixIndex(Node<T> root, int resultLimit, int size) {
+        this.root = root;
+        this.resultLimit = resultLimit;
+        this.size = size;
+    }
+
+    /**
+     * Creates new instance of {@link Builder}
+     *
+     * @param <T> Type of values
+     *
+     * @return Non-null {@link Builder}
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns values with the highest weight among keys starting with specified prefix
+     *
+     * @param prefix Non-null prefix, empty prefix matches all keys
+     *
+     * @return Non-null unmodifiable {@link List} of at most {@link #getResultLimit()} values, the highest weight first
+     */
+    public List<T> complete(@NonNull String prefix) {
+        String normalizedPrefix = normalize(prefix);
+        Node<T> node = root;
+        int position = 0;
+
+        while (position < normalizedPrefix.length()) {
+            Node<T> child = node.getChild(normalizedPrefix.charAt(position));
+
+            if (child == null) {
+                return Collections.emptyList();
+            }
+
+            int remaining = normalizedPrefix.length() - position;
+
+            if (remaining <= child.label.length()) {
+                // Prefix ends inside the label
+                return child.label.regionMatches(0, normalizedPrefix, position, remaining) ? child.results : Collections.emptyList();
+            }
+
+            if (!normalizedPrefix.regionMatches(position, child.label, 0, child.label.length())) {
+                return Collections.emptyList();
+            }
+
+            position += child.label.length();
+            node = child;
+        }
+
+        return node.results;
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node<T> {
+
+        private final String label; // Characters of the edge from parent
+        private final char[] childChars; // Sorted first characters of children labels
+        private final Node<T>[] children;
+        private final Entry<T>[] topEntries; // Used when building parent nodes
+        private final List<T> results;
+
+        private Node(String label, char[] childChars, Node<T>[] children, Entry<T>[] topEntries) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.topEntries = topEntries;
+
+            List<T> results = new ArrayList<>(topEntries.length);
+
+            for (Entry<T> entry : topEntries) {
+                results.add(entry.value);
+            }
+
+            this.results = Collections.unmodifiableList(results);
+        }
+
+        private Node<T> getChild(char character) {
+            int index = Arrays.binarySearch(childChars, character);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final String key;
+        private final T value;
+        private final long weight;
+
+        private Entry(String key, T value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Builder of {@link PrefixIndex}
+     *
+     * @param <T> Type of values
+     */
+    public static final class Builder<T> {
+
+        private static final Comparator<Entry<?>> RESULT_ORDER = Comparator.<Entry<?>>comparingLong(entry -> entry.weight).reversed()
+                                                                           .thenComparing(entry -> entry.key);
+
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private int resultLimit = 25;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds value under specified key with zero weight
+         *
+         * @param key   Non-null key
+         * @param value Non-null value
+         *
+         * @return {@link Builder}
+         */
+        public Builder<T> add(@NonNull String key, @NonNull T value) {
+            return add(key, value, 0);
+        }
+
+        /**
+         * Adds value under specified key
+         *
+         * @param key    Non-null key
+         * @param value  Non-null value
+         * @param weight Weight, values with higher weight are returned first
+         *
+         * @return {@link Builder}
+         */
+        public Builder<T> add(@NonNull String key, @NonNull T value, long weight) {
+            entries.add(new Entry<>(normalize(key), value, weight));
+            return this;
+        }
+
+        /**
+         * Sets maximum number of values returned for a prefix, by default 25 (maximum number of autocomplete choices)
+         *
+         * @param resultLimit Positive result limit
+         *
+         * @return {@link Builder}
+         */
+        public Builder<T> resultLimit(int resultLimit) {
+            if (resultLimit <= 0) {
+                throw new IllegalArgumentException("Result limit must be positive!");
+            }
+
+            this.resultLimit = resultLimit;
+            return this;
+        }
+
+        /**
+         * Builds the {@link PrefixIndex}
+         *
+         * @return Non-null {@link PrefixIndex}
+         */
+        public PrefixIndex<T> build() {
+            List<Entry<T>> sortedEntries = new ArrayList<>(entries);
+            sortedEntries.sort(Comparator.comparing(entry -> entry.key));
+
+            return new PrefixIndex<>(build(sortedEntries, 0, sortedEntries.size(), "", 0), resultLimit, sortedEntries.size());
+        }
+
+        /**
+         * Builds node of entries in specified range, all of them share first depth characters of their keys
+         */
+        @SuppressWarnings("unchecked")
+        private Node<T> build(List<Entry<T>> sortedEntries, int from, int to, String label, int depth) {
+            List<Entry<T>> candidates = new ArrayList<>();
+            int index = from;
+
+            // Keys ending in this node are sorted first
+            while (index < to && sortedEntries.get(index).key.length() == depth) {
+                candidates.add(sortedEntries.get(index++));
+            }
+
+            List<Character> childChars = new ArrayList<>();
+            List<Node<T>> children = new ArrayList<>();
+
+            while (index < to) {
+                char character = sortedEntries.get(index).key.charAt(depth);
+                int groupEnd = index + 1;
+
+                while (groupEnd < to && sortedEntries.get(groupEnd).key.charAt(depth) == character) {
+                    groupEnd++;
+                }
+
+                // Sorted keys - common prefix of the group is common prefix of its first and last key
+                String firstKey = sortedEntries.get(index).key;
+                String lastKey = sortedEntries.get(groupEnd - 1).key;
+                int childDepth = depth + 1;
+
+                while (childDepth < firstKey.length() && childDepth < lastKey.length() && firstKey.charAt(childDepth) == lastKey.charAt(childDepth)) {
+                    childDepth++;
+                }
+
+                Node<T> child = build(sortedEntries, index, groupEnd, firstKey.substring(depth, childDepth), childDepth);
+                childChars.add(character);
+                children.add(child);
+                candidates.addAll(Arrays.asList(child.topEntries));
+
+                index = groupEnd;
+            }
+
+            char[] childCharArray = new char[childChars.size()];
+
+            for (int i = 0; i < childCharArray.length; i++) {
+                childCharArray[i] = childChars.get(i);
+            }
+
+            return new Node<>(label, childCharArray, (Node<T>[]) children.toArray(new Node<?>[0]), selectTop(candidates));
+        }
+
+        @SuppressWarnings("unchecked")
+        private Entry<T>[] selectTop(List<Entry<T>> candidates) {
+            candidates.sort(RESULT_ORDER);
+
+            List<Entry<T>> topEntries = new ArrayList<>(Math.min(resultLimit, candidates.size()));
+            Set<T> values = new HashSet<>();
+
+            for (Entry<T> candidate : candidates) {
+                if (topEntries.size() == resultLimit) {
+                    break;
+                }
+
+                if (values.add(candidate.value)) {
+                    topEntries.add(candidate);
+                }
+            }
+
+            return (Entry<T>[]) topEntries.toArray(new Entry<?>[0]);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package dev.mayuna.mayusjdautils.util;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large amounts of timeouts. Scheduling and cancelling a timeout is O(1) and lock-free - both are only queued
+ * and applied to the wheel levels by a single ticker thread. The wheel either owns its ticker thread, which is started with the first
+ * scheduled timeout, or it is driven externally by calling {@link #tick()}.<br>
+ * Expired timeouts are passed to the expired consumer on the ticker thread, so the consumer should only hand the actual work off to another
+ * thread.
+ *
+ * @param <T> Type of value held by timeouts
+ */
+public final class TimingWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int WHEEL_LEVELS = 4;
+    private static final long MAX_TICKS = (1L << (WHEEL_BITS * WHEEL_LEVELS)) - 1;
+
+    private final Bucket<T>[][] wheels;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private final String threadName;
+    private final @Getter long tickMillis;
+    private final long startTime = System.currentTimeMillis();
+    private final Consumer<Timeout<T>> expiredConsumer;
+
+    private volatile Thread tickerThread;
+    private long currentTick; // Accessed only by ticker thread
+
+    /**
+     * Creates new {@link TimingWheel} with its own ticker thread
+     *
+     * @param threadName      Non-null name of the ticker thread
+     * @param tickDuration    Duration of one tick, timeouts are expired with this precision
+     * @param tickTimeUnit    Non-null {@link TimeUnit} of tick duration
+     * @param expiredConsumer Non-null {@link Consumer} which is called on the ticker thread with expired timeouts, its exceptions are passed to uncaught exception handler of the thread
+     */
+    public TimingWheel(@NonNull String threadName, long tickDuration, @NonNull TimeUnit tickTimeUnit, @NonNull Consumer<Timeout<T>> expiredConsumer) {
+        this(tickDuration, tickTimeUnit, expiredConsumer, threadName);
+    }
+
+    /**
+     * Creates new {@link TimingWheel} without its own ticker thread. You must call {@link #tick()} at least once per tick duration.
+     *
+     * @param tickDuration    Duration of one tick, timeouts are expired with this precision
+     * @param tickTimeUnit    Non-null {@link TimeUnit} of tick duration
+     * @param expiredConsumer Non-null {@link Consumer} which is called on the ticking thread with expired timeouts, its exceptions are passed to uncaught exception handler of the thread
+     */
+    public TimingWheel(long tickDuration, @NonNull TimeUnit tickTimeUnit, @NonNull Consumer<Timeout<T>> expiredConsumer) {
+        this(tickDuration, tickTimeUnit, expiredConsumer, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TimingWheel(long tickDuration, TimeUnit tickTimeUnit, Consumer<Timeout<T>> expiredConsumer, String threadName) {
+        this.threadName = threadName;
+        this.tickMillis = Math.max(1, tickTimeUnit.toMillis(tickDuration));
+        this.expiredConsumer = expiredConsumer;
+
+        wheels = (Bucket<T>[][]) new Bucket<?>[WHEEL_LEVELS][WHEEL_SIZE];
+
+        for (int level = 0; level < WHEEL_LEVELS; level++) {
+            for (int index = 0; index < WHEEL_SIZE; index++) {
+                wheels[level][index] = new Bucket<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules new timeout
+     *
+     * @param value    Value of the timeout
+     * @param deadline Time in milliseconds since epoch at which the timeout expires
+     *
+     * @return Non-null {@link Timeout}
+     */
+    public Timeout<T> schedule(T value, long deadline) {
+        long deadlineTick = Math.max(0, (deadline - startTime + tickMillis - 1) / tickMillis);
+        Timeout<T> timeout = new Timeout<>(this, value, deadline, deadlineTick);
+
+        pendingTimeouts.add(timeout);
+        startIfNeeded();
+
+        return timeout;
+    }
+
+    /**
+     * Stops the ticker thread. Timeouts which were not expired yet will never expire.
+     */
+    public void stop() {
+        Thread thread = tickerThread;
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and expires due timeouts. Used when the wheel does not have its own ticker thread. Must not be
+     * called concurrently.
+     */
+    public void tick() {
+        advance((System.currentTimeMillis() - startTime) / tickMillis);
+    }
+
+    private void startIfNeeded() {
+        if (threadName == null || started.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        tickerThread = thread;
+        thread.start();
+    }
+
+    ////////////
+    // Ticker //
+    ////////////
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            tick();
+
+            long sleepMillis = startTime + currentTick * tickMillis - System.currentTimeMillis();
+
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException ignored) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void advance(long nowTick) {
+        processCancelledTimeouts();
+        processPendingTimeouts();
+
+        while (currentTick <= nowTick) {
+            int index = (int) (currentTick & WHEEL_MASK);
+
+            if (index == 0) {
+                for (int level = 1; level < WHEEL_LEVELS; level++) {
+                    int levelIndex = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                    cascade(wheels[level][levelIndex]);
+
+                    if (levelIndex != 0) {
+                        break;
+                    }
+                }
+            }
+
+            expire(wheels[0][index]);
+            currentTick++;
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        Timeout<T> timeout;
+
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void processPendingTimeouts() {
+        Timeout<T> timeout;
+
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state == Timeout.STATE_PENDING) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long expires = Math.max(timeout.deadlineTick, currentTick);
+        long ticks = expires - currentTick;
+
+        if (ticks > MAX_TICKS) {
+            // Placed to the farthest slot, it will be cascaded and placed again
+            expires = currentTick + MAX_TICKS;
+            ticks = MAX_TICKS;
+        }
+
+        int level = 0;
+
+        while (level < WHEEL_LEVELS - 1 && ticks >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+
+        int index = (int) ((expires >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        wheels[level][index].add(timeout);
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.clear();
+
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            timeout.previous = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void expire(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.clear();
+
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            timeout.previous = null;
+
+            if (timeout.deadlineTick > currentTick) {
+                place(timeout);
+            } else if (timeout.compareAndSetState(Timeout.STATE_PENDING, Timeout.STATE_EXPIRED)) {
+                try {
+                    expiredConsumer.accept(timeout);
+                } catch (Throwable throwable) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+                }
+            }
+
+            timeout = next;
+        }
+    }
+
+    /////////////
+    // Classes //
+    /////////////
+
+    /**
+     * Timeout scheduled in {@link TimingWheel}
+     *
+     * @param <T> Type of value
+     */
+    public static final class Timeout<T> {
+
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel<T> timingWheel;
+        private final @Getter T value;
+        private final @Getter long deadline;
+        private final long deadlineTick;
+
+        private volatile int state = STATE_PENDING;
+
+        // Accessed only by ticker thread
+        private Bucket<T> bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> timingWheel, T value, long deadline, long deadlineTick) {
+            this.timingWheel = timingWheel;
+            this.value = value;
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancels this timeout, if it did not expire yet
+         *
+         * @return True if the timeout was cancelled by this call
+         */
+        public boolean cancel() {
+            if (!compareAndSetState(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+
+            timingWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == STATE_EXPIRED;
+        }
+
+        private boolean compareAndSetState(int expected, int newState) {
+            return STATE_UPDATER.compareAndSet(this, expected, newState);
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        private Timeout<T> clear() {
+            Timeout<T> timeout = head;
+
+            for (Timeout<T> current = head; current != null; current = current.next) {
+                current.bucket = null;
+            }
+
+            head = tail = null;
+            return timeout;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package dev.mayuna.mayusjdautils.util;
+
+import lombok.NonNull;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Immutable fuzzy search index over a catalog of entries. Keys of entries are split into words and every word into trigrams (with two leading
+ * spaces, so prefixes of one or two characters are trigrams too). Search returns entries sharing most trigrams with the query, ranked by
+ * Dice similarity - typos, missing diacritics and different word order still match.<br>
+ * The index is built once and can be shared by any number of threads. Search only walks posting lists of trigrams of the query, from the
+ * rarest one - entries which share only the most frequent trigrams with the query are not considered once there are enough candidates.<br>
+ * Every concurrent search needs a counter per entry (4 bytes per entry). Counters of at most as many searches as there are available
+ * processors are kept for reuse, counters of additional concurrent searches are allocated and thrown away.
+ *
+ * @param <T> Type of entries
+ */
+public final class TrigramIndex<T> {
+
+    private static final int MINIMUM_CANDIDATES = 1000;
+    private static final int CANDIDATES_PER_RESULT = 40;
+    private static final int MAX_POOLED_SEARCH_STATES = Runtime.getRuntime().availableProcessors();
+
+    private final List<T> entries;
+    private final int[] trigramCounts; // Number of distinct trigrams of every entry
+    private final Map<String, int[]> postings; // Trigram -> sorted entry indexes
+    private final Queue<SearchState> searchStates = new ArrayBlockingQueue<>(MAX_POOLED_SEARCH_STATES); // Full queue drops offered states
+
+    /**
+     * Builds {@link TrigramIndex} over specified entries
+     *
+     * @param entries     Non-null {@link Collection} of entries
+     * @param keyFunction Non-null function returning searchable text of entry
+     */
+    public TrigramIndex(@NonNull Collection<? extends T> entries, @NonNull Function<? super T, String> keyFunction) {
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        this.trigramCounts = new int[this.entries.size()];
+
+        Map<String, IntList> postingLists = new HashMap<>();
+
+        for (int index = 0; index < this.entries.size(); index++) {
+            Set<String> trigrams = trigrams(keyFunction.apply(this.entries.get(index)));
+            trigramCounts[index] = trigrams.size();
+
+            for (String trigram : trigrams) {
+                postingLists.computeIfAbsent(trigram, key -> new IntList()).add(index);
+            }
+        }
+
+        this.postings = new HashMap<>(postingLists.size() * 4 / 3 + 1);
+        postingLists.forEach((trigram, postingList) -> postings.put(trigram, postingList.toArray()));
+    }
+
+    /**
+     * Returns indexed entries
+     *
+     * @return Non-null unmodifiable {@link List} of entries
+     */
+    public List<T> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns number of indexed entries
+     *
+     * @return Number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Searches entries most similar to specified query
+     *
+     * @param query Non-null query
+     * @param limit Maximum number of returned entries
+     *
+     * @return Non-null {@link List} of entries, the most similar first
+     */
+    public List<T> search(@NonNull String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive!");
+        }
+
+        Set<String> queryTrigrams = trigrams(query);
+
+        if (queryTrigrams.isEmpty() || entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        SearchState searchState = searchStates.poll();
+
+        if (searchState == null) {
+            searchState = new SearchState(entries.size(), Math.max(MINIMUM_CANDIDATES, limit * CANDIDATES_PER_RESULT));
+        }
+
+        try {
+            return search(searchState, queryTrigrams, limit);
+        } finally {
+            searchStates.offer(searchState);
+        }
+    }
+
+    private List<T> search(SearchState searchState, Set<String> queryTrigrams, int limit) {
+        int[] shared = searchState.shared;
+        int touchedCount = 0;
+
+        int[][] queryPostings = new int[queryTrigrams.size()][];
+        int queryPostingCount = 0;
+
+        for (String trigram : queryTrigrams) {
+            int[] posting = postings.get(trigram);
+
+            if (posting != null) {
+                queryPostings[queryPostingCount++] = posting;
+            }
+        }
+
+        // Rarest trigrams first - once there are enough candidates, frequent trigrams only add to their similarity
+        Arrays.sort(queryPostings, 0, queryPostingCount, Comparator.comparingInt(posting -> posting.length));
+        int candidateLimit = Math.max(MINIMUM_CANDIDATES, limit * CANDIDATES_PER_RESULT);
+
+        for (int i = 0; i < queryPostingCount; i++) {
+            int[] posting = queryPostings[i];
+
+            if (touchedCount < candidateLimit) {
+                int[] touched = searchState.ensureTouchedCapacity(touchedCount + posting.length);
+
+                for (int index : posting) {
+                    if (shared[index]++ == 0) {
+                        touched[touchedCount++] = index;
+                    }
+                }
+            } else {
+                for (int index : posting) {
+                    if (shared[index] != 0) {
+                        shared[index]++;
+                    }
+                }
+            }
+        }
+
+        // Top entries sorted by similarity, insertion is cheap for the small limits of select menus
+        int[] topIndexes = new int[Math.min(limit, touchedCount)];
+        float[] topSimilarities = new float[topIndexes.length];
+        int topCount = 0;
+
+        int[] touched = searchState.touched;
+
+        for (int i = 0; i < touchedCount; i++) {
+            int index = touched[i];
+            float similarity = 2f * shared[index] / (queryTrigrams.size() + trigramCounts[index]);
+            shared[index] = 0;
+
+            if (topCount == topIndexes.length && similarity <= topSimilarities[topCount - 1]) {
+                continue;
+            }
+
+            int position = topCount == topIndexes.length ? topCount - 1 : topCount++;
+
+            while (position > 0 && topSimilarities[position - 1] < similarity) {
+                topIndexes[position] = topIndexes[position - 1];
+                topSimilarities[position] = topSimilarities[position - 1];
+                position--;
+            }
+
+            topIndexes[position] = index;
+            topSimilarities[position] = similarity;
+        }
+
+        List<T> results = new ArrayList<>(topCount);
+
+        for (int i = 0; i < topCount; i++) {
+            results.add(entries.get(topIndexes[i]));
+        }
+
+        return results;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+
+        if (text == null) {
+            return trigrams;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder("  ");
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            char character = i < normalized.length() ? normalized.charAt(i) : ' ';
+
+            if (Character.getType(character) == Character.NON_SPACING_MARK) {
+                continue; // Diacritics
+            }
+
+            if (Character.isLetterOrDigit(character)) {
+                word.append(character);
+                continue;
+            }
+
+            if (word.length() > 2) {
+                word.append(' ');
+
+                for (int start = 0; start + 3 <= word.length(); start++) {
+                    trigrams.add(word.substring(start, start + 3));
+                }
+
+                word.setLength(2);
+            }
+        }
+
+        return trigrams;
+    }
+
+    private static final class SearchState {
+
+        private final int[] shared; // Number of shared trigrams per entry, zeroed after every search
+        private int[] touched; // Entries with non-zero shared count, grows up to number of entries
+
+        private SearchState(int size, int expectedCandidates) {
+            this.shared = new int[size];
+            this.touched = new int[Math.min(size, expectedCandidates)];
+        }
+
+        private int[] ensureTouchedCapacity(int capacity) {
+            if (capacity > touched.length) {
+                touched = Arrays.copyOf(touched, Math.min(shared.length, Math.max(capacity, touched.length * 2)));
+            }
+
+            return touched;
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
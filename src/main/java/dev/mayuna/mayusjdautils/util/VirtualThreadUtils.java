@@ -0,0 +1,88 @@
+package dev.mayuna.mayusjdautils.util;
+
+import lombok.NonNull;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utilities for virtual threads (JDK 21+). The library is compiled for older Java versions, so virtual threads are accessed reflectively and
+ * their support is detected at runtime.
+ */
+public final class VirtualThreadUtils {
+
+    private static final boolean SUPPORTED = detectSupport();
+
+    private VirtualThreadUtils() {
+    }
+
+    /**
+     * Determines if the current runtime supports virtual threads
+     *
+     * @return True if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Creates {@link ExecutorService} which runs every task on its own virtual thread. The threads are named with specified prefix and
+     * sequence number.
+     *
+     * @param threadNamePrefix Non-null thread name prefix
+     *
+     * @return Non-null {@link ExecutorService}
+     *
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads, see {@link #isSupported()}
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(@NonNull String threadNamePrefix) {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this runtime (Java " + System.getProperty("java.version") + ")");
+        }
+
+        try {
+            return createExecutor(threadNamePrefix);
+        } catch (ReflectiveOperationException exception) {
+            throw new UnsupportedOperationException("Could not create virtual thread executor", exception);
+        }
+    }
+
+    /**
+     * Creates {@link ExecutorService} which runs every task on its own virtual thread. If the runtime does not support virtual threads,
+     * {@link Executors#newCachedThreadPool()} is returned instead.
+     *
+     * @param threadNamePrefix Non-null thread name prefix
+     *
+     * @return Non-null {@link ExecutorService}
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutorOrCachedPool(@NonNull String threadNamePrefix) {
+        if (!SUPPORTED) {
+            return Executors.newCachedThreadPool();
+        }
+
+        return newVirtualThreadPerTaskExecutor(threadNamePrefix);
+    }
+
+    private static ExecutorService createExecutor(String threadNamePrefix) throws ReflectiveOperationException {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+        ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+    }
+
+    private static boolean detectSupport() {
+        try {
+            // On JDK 19 and 20 this exists, but throws when preview features are disabled
+            createExecutor("Virtual-Thread-Support-Check-").shutdown();
+            return true;
+        } catch (Throwable ignored) {
+            return false;
+        }
+    }
+}